@@ -55,7 +55,7 @@ def generate_sql(csv_path, output_path):
             # Random state
             state = random.choice(['ARRIVED', 'CANCELED', 'IN_PROGRESS'])
             
-            f.write(f"INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES ({vehicle_id}, POINT({lat}, {lng}), POINT({lat+0.1}, {lng+0.1}), {avg_speed}, {avg_accel}, '{state}', NOW(), NOW());\n")
+            f.write(f"INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES ({vehicle_id}, {lat}, {lng}, {lat+0.1}, {lng+0.1}, {avg_speed}, {avg_accel}, '{state}', NOW(), NOW());\n")
 
 if __name__ == "__main__":
     generate_sql('/mnt/acer/Universidad/Ingeniería Civil Informática/Octavo Semestre/Innovación y Emprendimiento/innova-2-2025/vehicle-telemetry-scikit/data/67a6fef440f8a5868a2e023e_DLP Labs_Sample.csv', 'src/main/resources/data.sql')
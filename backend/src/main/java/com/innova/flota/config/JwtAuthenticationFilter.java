@@ -0,0 +1,59 @@
+package com.innova.flota.config;
+
+import com.innova.flota.services.JwtService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Lee el header "Authorization: Bearer ..." y, si el token es valido, deja al usuario
+ * autenticado en el SecurityContext (principal = subject, rol del claim "role").
+ * Sin token o con token invalido sigue como anonimo y deciden las reglas de SecurityConfig.
+ * No es un @Component para que Spring Boot no lo registre ademas como filtro del servlet.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtService jwtService;
+
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            JwtService.VerifiedToken token = jwtService.verify(header.substring(BEARER.length()).trim());
+            if (token != null) {
+                List<SimpleGrantedAuthority> authorities = token.role() == null
+                        ? List.of()
+                        : List.of(new SimpleGrantedAuthority("ROLE_" + token.role()));
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(token.subject(), null, authorities);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    // el dispatch async del export en streaming vuelve a pasar por las reglas: sin esto llega como anonimo
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -1,42 +1,56 @@
 package com.innova.flota.controllers;
 
-import com.innova.flota.services.EmailService;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
+import com.innova.flota.model.VehicleStatus;
+import com.innova.flota.services.EmailCampaignService;
+import com.innova.flota.services.EmailOutboxService;
+import com.innova.flota.services.QrGenerator;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/qr")
 public class QREmailController {
 
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailCampaignService emailCampaignService;
+    private final QrGenerator qrGenerator;
 
-    public QREmailController(EmailService emailService) {
-        this.emailService = emailService;
+    public QREmailController(EmailOutboxService emailOutboxService, EmailCampaignService emailCampaignService,
+            QrGenerator qrGenerator) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailCampaignService = emailCampaignService;
+        this.qrGenerator = qrGenerator;
     }
 
+    // el correo queda en el outbox y se envia en segundo plano; se responde 202 con el id para consultar
     @PostMapping("/send-email")
     public ResponseEntity<?> sendQREmail(@RequestBody QREmailRequest request) {
         try {
-            // generar el codigo QR
-            byte[] qrCodeBytes = generateQRCode(request.vehicleData());
+            // el mismo QR (token firmado) que el sticker del vehiculo, no texto armado por el cliente
+            QrGenerator.QrImage qrCode = request.vehicleId() == null
+                    ? null : qrGenerator.generateQRCodeImage(request.vehicleId());
+            if (qrCode == null) {
+                return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "No se encontró el vehículo"
+                ));
+            }
+            byte[] qrCodeBytes = qrCode.png();
             
             // ver que contenido tendra el correo dependiendo de la accion q se quiera realizar
             String subject = getEmailSubject(request.action());
-            String message = getEmailMessage(request.action(), request.vehicleData());
+            String message = getEmailMessage(request.action());
             
-            // enviar correo
-            emailService.sendQREmail(request.email(), qrCodeBytes, subject, message);
+            // encolar correo
+            Long messageId = emailOutboxService.enqueue(request.email(), subject, message, qrCodeBytes);
             
-            return ResponseEntity.ok(Map.of(
+            return ResponseEntity.accepted().body(Map.of(
                 "success", true,
-                "message", "Correo enviado exitosamente a " + request.email()
+                "messageId", messageId,
+                "message", "Correo en cola para " + request.email()
             ));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -46,14 +60,53 @@ public class QREmailController {
         }
     }
 
-    private byte[] generateQRCode(String data) throws Exception {
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(data, BarcodeFormat.QR_CODE, 300, 300);
-        
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
-        
-        return outputStream.toByteArray();
+    @GetMapping("/send-email/{messageId}")
+    public ResponseEntity<?> emailStatus(@PathVariable Long messageId) {
+        return emailOutboxService.find(messageId)
+                .<ResponseEntity<?>>map(email -> {
+                    Map<String, Object> body = new HashMap<>();
+                    body.put("messageId", email.getId());
+                    body.put("status", email.getStatus().name());
+                    body.put("attempts", email.getAttempts());
+                    body.put("lastError", email.getLastError());
+                    body.put("sentAt", email.getSentAt());
+                    return ResponseEntity.ok(body);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // aviso masivo: el QR de cada vehiculo que calce con el filtro, a su conductor.
+    // La campaña se arma en segundo plano; el avance se consulta con el GET de abajo
+    @PostMapping("/campaign")
+    public ResponseEntity<?> sendCampaign(@RequestBody QRCampaignRequest request) {
+        try {
+            String campaignId = emailCampaignService.enqueueQrCampaign(
+                    request.status(), request.marca(), request.modelo(),
+                    getEmailSubject(request.action()), getEmailMessage(request.action()));
+            return ResponseEntity.accepted().body(Map.of(
+                "success", true,
+                "campaignId", campaignId
+            ));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Error al crear la campaña: " + e.getMessage()
+            ));
+        }
+    }
+
+    // correos por estado en el outbox + avance del armado (si lo armo esta instancia)
+    @GetMapping("/campaign/{campaignId}")
+    public ResponseEntity<?> campaignStatus(@PathVariable String campaignId) {
+        Map<String, Object> body = new HashMap<>(emailOutboxService.campaignStatus(campaignId));
+        EmailCampaignService.CampaignProgress progress = emailCampaignService.progress(campaignId);
+        if (progress != null) {
+            body.put("queued", progress.queued());
+            body.put("skipped", progress.skipped());
+            body.put("enqueuing", !progress.done());
+            body.put("error", progress.error());
+        }
+        return ResponseEntity.ok(body);
     }
 
     private String getEmailSubject(String action) {
@@ -66,7 +119,7 @@ public class QREmailController {
         };
     }
 
-    private String getEmailMessage(String action, String vehicleData) {
+    private String getEmailMessage(String action) {
         return switch (action) {
             case "status" -> 
                 "Hemos generado el código QR para <strong>consultar el estado actual</strong> de su vehículo. " +
@@ -94,9 +147,16 @@ public class QREmailController {
         };
     }
 
+    public record QRCampaignRequest(
+        String action,
+        VehicleStatus status,
+        String marca,
+        String modelo
+    ) {}
+
     public record QREmailRequest(
         String email,
         String action,
-        String vehicleData
+        Long vehicleId
     ) {}
 }
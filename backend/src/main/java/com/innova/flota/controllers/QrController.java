@@ -1,50 +1,96 @@
 package com.innova.flota.controllers;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.innova.flota.model.VehicleStatus;
+import com.innova.flota.services.QrBulkExporter;
 import com.innova.flota.services.QrGenerator;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.BufferedImageHttpMessageConverter;
-import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.awt.image.BufferedImage;
+import java.time.Duration;
 
 // ############# REST controller de prueba =) falta hacerlo en graphqls
 @RestController
 @RequestMapping("/api/qr")
 public class QrController {
     private final QrGenerator qrGenerator;
+    private final QrBulkExporter qrBulkExporter;
+    private final long bulkTimeoutMs;
 
     @Autowired
-    public QrController(QrGenerator qrGenerator) {
+    public QrController(QrGenerator qrGenerator, QrBulkExporter qrBulkExporter,
+            @Value("${qr.bulk.timeout-ms:600000}") long bulkTimeoutMs) {
         this.qrGenerator = qrGenerator;
+        this.qrBulkExporter = qrBulkExporter;
+        this.bulkTimeoutMs = bulkTimeoutMs;
     }
 
     @GetMapping(value="/test",produces = MediaType.IMAGE_PNG_VALUE)
 
-    public ResponseEntity<BufferedImage> test() throws Exception {
+    public ResponseEntity<byte[]> test() throws Exception {
 
         Long id = 2L;
-        return ResponseEntity.ok(qrGenerator.generateQRCodeImage(id));
+        return vehicleData(id);
     }
 
     @GetMapping(value = "/{id}",produces = MediaType.IMAGE_PNG_VALUE)
-    public ResponseEntity<BufferedImage> vehicleData(@PathVariable Long id) throws Exception{
-        return ResponseEntity.ok(qrGenerator.generateQRCodeImage(id));
+    public ResponseEntity<byte[]> vehicleData(@PathVariable Long id) throws Exception{
+        QrGenerator.QrImage image = qrGenerator.generateQRCodeImage(id);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // el QR de un vehiculo solo cambia si cambia la version del token: el cliente revalida con el ETag
+        return ResponseEntity.ok()
+                .eTag(image.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(image.png());
     }
-    @Bean
-    public HttpMessageConverter<BufferedImage> createImageHttpMessageConverter() {
-        return new BufferedImageHttpMessageConverter();
+
+    // QRs de todos los vehiculos que calzan con el filtro, en un ZIP que se arma mientras se descarga.
+    // Solo ADMIN (ver SecurityConfig). El timeout largo es solo para este request, el resto
+    // de los async siguen con el default
+    @GetMapping(value = "/bulk", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> bulk(@RequestParam(required = false) VehicleStatus status,
+            @RequestParam(required = false) String marca, @RequestParam(required = false) String modelo,
+            HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(bulkTimeoutMs);
+        StreamingResponseBody body = out -> qrBulkExporter.writeZip(status, marca, modelo, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"qr-flota.zip\"")
+                .body(body);
+    }
+
+    // lo usa el escaner: el QR solo trae el token, los datos del vehiculo salen de aca
+    @GetMapping(value = "/resolve/{token}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ObjectNode> resolve(@PathVariable String token) {
+        ObjectNode payload = qrGenerator.resolve(token);
+        return payload == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(payload);
     }
 
+    // el contenido de un QR guardado no cambia: ETag fuerte + cache largo en el cliente,
+    // y Spring responde 304 solo si el If-None-Match coincide
     @GetMapping(value = "get/{id}",produces = MediaType.IMAGE_PNG_VALUE)
-    public ResponseEntity<BufferedImage> getCode(@PathVariable Long id) throws Exception {
-        return ResponseEntity.ok(qrGenerator.getQrCode(id));
+    public ResponseEntity<byte[]> getCode(@PathVariable Long id) throws Exception {
+        QrGenerator.QrImage image = qrGenerator.getQrCodePng(id);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(image.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(30)).cachePublic().immutable())
+                .body(image.png());
     }
 
 }
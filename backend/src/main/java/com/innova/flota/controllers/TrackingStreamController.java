@@ -0,0 +1,102 @@
+package com.innova.flota.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.services.TelemetryPipeline;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Canal de ingesta para trackers: un POST de larga duracion con cuerpo NDJSON
+ * (una posicion {@code {"lat":..,"lng":..,"vehicleId":..}} por linea). El
+ * tracker mantiene la conexion abierta y escribe lineas a medida que las tiene.
+ * Requiere token DRIVER o ADMIN (SecurityConfig); un DRIVER solo puede enviar
+ * posiciones de los vehiculos que tiene asignados al abrir la conexion.
+ */
+@RestController
+@RequestMapping("/api/tracking")
+public class TrackingStreamController {
+
+    private final TelemetryPipeline telemetryPipeline;
+    private final VehicleRepository vehicleRepository;
+    private final ObjectReader frameReader;
+
+    @Value("${ingest.stream.offer-timeout-ms:5000}")
+    private long offerTimeoutMs;
+
+    public TrackingStreamController(TelemetryPipeline telemetryPipeline, VehicleRepository vehicleRepository,
+            ObjectMapper objectMapper) {
+        this.telemetryPipeline = telemetryPipeline;
+        this.vehicleRepository = vehicleRepository;
+        this.frameReader = objectMapper.readerFor(TestTrackerDTO.class);
+    }
+
+    @PostMapping(value = "/stream", consumes = { "application/x-ndjson", "application/json" })
+    public ResponseEntity<Map<String, Object>> stream(HttpServletRequest request, Authentication authentication)
+            throws IOException, InterruptedException {
+        // null = ADMIN, puede enviar de cualquier vehiculo
+        Set<Long> allowedVehicles = isAdmin(authentication)
+                ? null : Set.copyOf(vehicleRepository.findIdsByDriverEmail(authentication.getName()));
+        long accepted = 0;
+        long invalid = 0;
+        long forbidden = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                TestTrackerDTO frame;
+                try {
+                    frame = frameReader.readValue(line);
+                } catch (IOException e) {
+                    invalid++;
+                    continue;
+                }
+                if (frame.getVehicleId() == null || frame.getLat() == null || frame.getLng() == null) {
+                    invalid++;
+                    continue;
+                }
+                if (allowedVehicles != null && !allowedVehicles.contains(frame.getVehicleId())) {
+                    forbidden++;
+                    continue;
+                }
+                // bloquea mientras la cola este llena (backpressure hacia el tracker)
+                if (!telemetryPipeline.submit(frame, offerTimeoutMs)) {
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                            "accepted", accepted,
+                            "invalid", invalid,
+                            "forbidden", forbidden,
+                            "message", "Cola de ingesta llena, reintente desde la ultima posicion no aceptada"));
+                }
+                accepted++;
+            }
+        }
+
+        return ResponseEntity.ok(Map.of(
+                "accepted", accepted,
+                "invalid", invalid,
+                "forbidden", forbidden));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.innova.flota.model;
+
+/**
+ * Cantidad de vehiculos por rango de salud ((batteryHealth + engineHealth) / 2).
+ * {@code group} es la marca o modelo cuando se agrupa, o null para toda la flota.
+ */
+public record FleetHealthDistribution(
+        String group,
+        long excellent,
+        long good,
+        long fair,
+        long poor
+) {
+}
@@ -0,0 +1,65 @@
+package com.innova.flota.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Acumulado de las fotos de salud por mes o por semana. Guarda sumas y
+ * conteos para poder sumar cada foto nueva sin releer las anteriores.
+ */
+@Entity
+@Table(name = "fleet_health_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_fleet_health_rollup_bucket", columnNames = { "granularity", "bucket_start" })
+})
+public class FleetHealthRollup {
+
+    public enum Granularity {
+        MONTH, WEEK
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "snapshot_count", nullable = false)
+    private long snapshotCount;
+
+    @Column(name = "fuel_efficiency_sum", nullable = false)
+    private double fuelEfficiencySum;
+
+    @Column(name = "fuel_efficiency_count", nullable = false)
+    private long fuelEfficiencyCount;
+
+    @Column(name = "maintenance_sum", nullable = false)
+    private long maintenanceSum;
+
+    public FleetHealthRollup() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Granularity getGranularity() { return granularity; }
+    public void setGranularity(Granularity granularity) { this.granularity = granularity; }
+
+    public LocalDate getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+    public long getSnapshotCount() { return snapshotCount; }
+    public void setSnapshotCount(long snapshotCount) { this.snapshotCount = snapshotCount; }
+
+    public double getFuelEfficiencySum() { return fuelEfficiencySum; }
+    public void setFuelEfficiencySum(double fuelEfficiencySum) { this.fuelEfficiencySum = fuelEfficiencySum; }
+
+    public long getFuelEfficiencyCount() { return fuelEfficiencyCount; }
+    public void setFuelEfficiencyCount(long fuelEfficiencyCount) { this.fuelEfficiencyCount = fuelEfficiencyCount; }
+
+    public long getMaintenanceSum() { return maintenanceSum; }
+    public void setMaintenanceSum(long maintenanceSum) { this.maintenanceSum = maintenanceSum; }
+}
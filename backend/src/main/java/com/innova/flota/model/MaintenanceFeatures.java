@@ -0,0 +1,25 @@
+package com.innova.flota.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Entrada del modelo de mantenimiento, con los mismos nombres que {@code VehicleData}
+ * en la API de Python. El orden de {@link #toArray()} es el del entrenamiento.
+ */
+public record MaintenanceFeatures(
+        @JsonProperty("mileage") double mileage,
+        @JsonProperty("vehicle_age") int vehicleAge,
+        @JsonProperty("fuel_efficiency") double fuelEfficiency,
+        @JsonProperty("battery_health") double batteryHealth,
+        @JsonProperty("engine_health") double engineHealth,
+        @JsonProperty("avg_speed") double avgSpeed,
+        @JsonProperty("avg_accel") double avgAccel,
+        @JsonProperty("odometer_reading") double odometerReading
+) {
+
+    public double[] toArray() {
+        return new double[] {
+                mileage, vehicleAge, fuelEfficiency, batteryHealth,
+                engineHealth, avgSpeed, avgAccel, odometerReading };
+    }
+}
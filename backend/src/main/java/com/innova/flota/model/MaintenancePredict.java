@@ -10,12 +10,17 @@ public class MaintenancePredict {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(name = "car-id", unique = true)
+    // el guion obliga a citar el nombre, si no el DDL de Postgres falla
+    @Column(name = "\"car-id\"", unique = true)
     private Long carId;
     
     @Column(name = "confidence_score")
     private Float confidenceScore;
     
+    @Column(name = "needs_maintenance")
+    private Boolean needsMaintenance;
+
+    // cuando se calculo la prediccion
     private LocalDateTime predicted;
 
     public MaintenancePredict() {}
@@ -29,6 +34,9 @@ public class MaintenancePredict {
     public Float getConfidenceScore() { return confidenceScore; }
     public void setConfidenceScore(Float confidenceScore) { this.confidenceScore = confidenceScore; }
     
+    public Boolean getNeedsMaintenance() { return needsMaintenance; }
+    public void setNeedsMaintenance(Boolean needsMaintenance) { this.needsMaintenance = needsMaintenance; }
+
     public LocalDateTime getPredicted() { return predicted; }
     public void setPredicted(LocalDateTime predicted) { this.predicted = predicted; }
 }
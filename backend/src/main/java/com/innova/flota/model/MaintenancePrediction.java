@@ -0,0 +1,13 @@
+package com.innova.flota.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Resultado del modelo para un vehiculo; probability puede venir null si el
+ * modelo no entrega probabilidades.
+ */
+public record MaintenancePrediction(
+        @JsonProperty("needs_maintenance") boolean needsMaintenance,
+        @JsonProperty("maintenance_probability") Double probability
+) {
+}
@@ -1,9 +1,11 @@
 package com.innova.flota.model;
 
+import com.innova.flota.services.DashboardInvalidationListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(DashboardInvalidationListener.class)
 @Table(name = "maintenance_ticket")
 public class MaintenanceTicket {
     @Id
@@ -1,19 +1,19 @@
 package com.innova.flota.model;
 
 public class Point {
-    private final Double x;
-    private final Double y;
+    private final double x;
+    private final double y;
 
-    public Point(Double x, Double y) {
+    public Point(double x, double y) {
         this.x = x;
         this.y = y;
     }
 
-    public Double getX() {
+    public double getX() {
         return x;
     }
 
-    public Double getY() {
+    public double getY() {
         return y;
     }
 }
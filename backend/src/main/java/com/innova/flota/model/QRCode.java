@@ -3,7 +3,11 @@ package com.innova.flota.model;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "qrcodes")
+@Table(name = "qrcodes", indexes = {
+        @Index(name = "idx_qrcodes_vehicle", columnList = "vehicle_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_qrcodes_payload_hash", columnNames = "payload_hash")
+})
 public class QRCode {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,6 +16,13 @@ public class QRCode {
     @Column(name = "barcode_text")
     private String barcodeText;
 
+    @Column(name = "vehicle_id")
+    private Long vehicleId;
+
+    // sha-256 de version del token + vehiculo: un solo codigo por vehiculo y version
+    @Column(name = "payload_hash", length = 64)
+    private String payloadHash;
+
     public QRCode() {}
 
     public Long getId() { return id; }
@@ -19,4 +30,10 @@ public class QRCode {
     
     public String getBarcodeText() { return barcodeText; }
     public void setBarcodeText(String barcodeText) { this.barcodeText = barcodeText; }
+
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getPayloadHash() { return payloadHash; }
+    public void setPayloadHash(String payloadHash) { this.payloadHash = payloadHash; }
 }
@@ -1,10 +1,17 @@
 package com.innova.flota.model;
 
+import com.innova.flota.services.DashboardInvalidationListener;
+import com.innova.flota.services.PredictionInvalidationListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "travel_log")
+@EntityListeners({ DashboardInvalidationListener.class, PredictionInvalidationListener.class })
+@Table(name = "travel_log", indexes = {
+        // paginacion keyset (created_at DESC, id DESC), con y sin filtro por vehiculo
+        @Index(name = "idx_travel_log_vehicle_created", columnList = "vehicle_id, created_at, id"),
+        @Index(name = "idx_travel_log_created", columnList = "created_at, id")
+})
 public class TravelLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,11 +20,17 @@ public class TravelLog {
     @Column(name = "vehicle_id")
     private Long vehicleId;
     
-    @Column(name = "start_position")
-    private String startPosition;
-    
-    @Column(name = "end_position")
-    private String endPosition;
+    @Column(name = "start_latitude", nullable = false)
+    private double startLatitude;
+
+    @Column(name = "start_longitude", nullable = false)
+    private double startLongitude;
+
+    @Column(name = "end_latitude", nullable = false)
+    private double endLatitude;
+
+    @Column(name = "end_longitude", nullable = false)
+    private double endLongitude;
     
     @Column(name = "avg_speed")
     private Float avgSpeed;
@@ -27,7 +40,8 @@ public class TravelLog {
     
     private String state;
     
-    @Column(name = "created_at")
+    // clave de particion de travel_log: no se actualiza (la base rechaza el cambio, ver V3)
+    @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "arrival_time")
@@ -41,11 +55,17 @@ public class TravelLog {
     public Long getVehicleId() { return vehicleId; }
     public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
     
-    public String getStartPosition() { return startPosition; }
-    public void setStartPosition(String startPosition) { this.startPosition = startPosition; }
-    
-    public String getEndPosition() { return endPosition; }
-    public void setEndPosition(String endPosition) { this.endPosition = endPosition; }
+    public double getStartLatitude() { return startLatitude; }
+    public void setStartLatitude(double startLatitude) { this.startLatitude = startLatitude; }
+
+    public double getStartLongitude() { return startLongitude; }
+    public void setStartLongitude(double startLongitude) { this.startLongitude = startLongitude; }
+
+    public double getEndLatitude() { return endLatitude; }
+    public void setEndLatitude(double endLatitude) { this.endLatitude = endLatitude; }
+
+    public double getEndLongitude() { return endLongitude; }
+    public void setEndLongitude(double endLongitude) { this.endLongitude = endLongitude; }
     
     public Float getAvgSpeed() { return avgSpeed; }
     public void setAvgSpeed(Float avgSpeed) { this.avgSpeed = avgSpeed; }
@@ -0,0 +1,57 @@
+package com.innova.flota.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Suma y cantidad de duraciones de viaje (en minutos) por dia, por dia de la
+ * semana y por vehiculo. La mantiene un trigger sobre travel_log (ver
+ * db/migration/V1__baseline_schema.sql); la entidad solo mapea la tabla.
+ */
+@Entity
+@Table(name = "trip_duration_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trip_duration_rollup_bucket", columnNames = { "scope", "bucket_key" })
+})
+public class TripDurationRollup {
+
+    /**
+     * DAY: bucket_key = yyyymmdd de created_at. DOW: 0 (domingo) a 6 (sabado).
+     * VEHICLE: id del vehiculo.
+     */
+    public enum Scope {
+        DAY, DOW, VEHICLE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Scope scope;
+
+    @Column(name = "bucket_key", nullable = false)
+    private long bucketKey;
+
+    @Column(name = "total_minutes", nullable = false)
+    private double totalMinutes;
+
+    @Column(name = "trip_count", nullable = false)
+    private long tripCount;
+
+    public TripDurationRollup() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Scope getScope() { return scope; }
+    public void setScope(Scope scope) { this.scope = scope; }
+
+    public long getBucketKey() { return bucketKey; }
+    public void setBucketKey(long bucketKey) { this.bucketKey = bucketKey; }
+
+    public double getTotalMinutes() { return totalMinutes; }
+    public void setTotalMinutes(double totalMinutes) { this.totalMinutes = totalMinutes; }
+
+    public long getTripCount() { return tripCount; }
+    public void setTripCount(long tripCount) { this.tripCount = tripCount; }
+}
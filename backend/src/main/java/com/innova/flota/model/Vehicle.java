@@ -1,8 +1,12 @@
 package com.innova.flota.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.innova.flota.services.DashboardInvalidationListener;
+import com.innova.flota.services.PredictionInvalidationListener;
 import jakarta.persistence.*;
 
 @Entity
+@EntityListeners({ DashboardInvalidationListener.class, PredictionInvalidationListener.class })
 public class Vehicle {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -14,8 +18,10 @@ public class Vehicle {
     private int kmRecorrido;
     private Integer year;
 
-    @ManyToOne
+    // LAZY: GraphQL lo resuelve por lotes (VehicleResolver.driver)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "driver_id")
+    @JsonIgnore
     private Users driver;
 
     private Double fuelEfficiency;
@@ -0,0 +1,66 @@
+package com.innova.flota.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Foto periodica del estado de salud de cada vehiculo. Las escribe
+ * FleetHistoryService por SQL; la entidad define la tabla.
+ */
+@Entity
+@Table(name = "vehicle_health_snapshot", indexes = {
+        @Index(name = "idx_health_snapshot_taken", columnList = "taken_at"),
+        @Index(name = "idx_health_snapshot_vehicle_taken", columnList = "vehicle_id, taken_at")
+})
+public class VehicleHealthSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "vehicle_id", nullable = false)
+    private Long vehicleId;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    @Column(name = "fuel_efficiency")
+    private Double fuelEfficiency;
+
+    @Column(name = "battery_health")
+    private Double batteryHealth;
+
+    @Column(name = "engine_health")
+    private Double engineHealth;
+
+    @Column(name = "km_recorrido")
+    private Integer kmRecorrido;
+
+    @Column(name = "needs_maintenance", nullable = false)
+    private boolean needsMaintenance;
+
+    public VehicleHealthSnapshot() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public LocalDateTime getTakenAt() { return takenAt; }
+    public void setTakenAt(LocalDateTime takenAt) { this.takenAt = takenAt; }
+
+    public Double getFuelEfficiency() { return fuelEfficiency; }
+    public void setFuelEfficiency(Double fuelEfficiency) { this.fuelEfficiency = fuelEfficiency; }
+
+    public Double getBatteryHealth() { return batteryHealth; }
+    public void setBatteryHealth(Double batteryHealth) { this.batteryHealth = batteryHealth; }
+
+    public Double getEngineHealth() { return engineHealth; }
+    public void setEngineHealth(Double engineHealth) { this.engineHealth = engineHealth; }
+
+    public Integer getKmRecorrido() { return kmRecorrido; }
+    public void setKmRecorrido(Integer kmRecorrido) { this.kmRecorrido = kmRecorrido; }
+
+    public boolean isNeedsMaintenance() { return needsMaintenance; }
+    public void setNeedsMaintenance(boolean needsMaintenance) { this.needsMaintenance = needsMaintenance; }
+}
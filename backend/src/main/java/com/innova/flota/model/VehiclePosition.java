@@ -0,0 +1,18 @@
+package com.innova.flota.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ultima posicion conocida de un vehiculo. {@code sequence} crece con cada
+ * actualizacion y solo se usa para detectar cambios, no se expone en GraphQL.
+ */
+public record VehiclePosition(
+        Long vehicleId,
+        double latitude,
+        double longitude,
+        Float avgSpeed,
+        String state,
+        LocalDateTime recordedAt,
+        long sequence
+) {
+}
@@ -0,0 +1,15 @@
+package com.innova.flota.repositories;
+
+/**
+ * Proyeccion de los agregados escalares del dashboard, calculados en una sola
+ * consulta ({@link VehicleRepository#findDashboardTotals()}).
+ */
+public interface DashboardTotals {
+    long getTotalVehicles();
+
+    Double getAvgFuelEfficiency();
+
+    long getVehiclesNeedingMaintenance();
+
+    Double getAvgTripMinutes();
+}
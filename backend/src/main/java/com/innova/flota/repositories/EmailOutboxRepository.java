@@ -0,0 +1,39 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // SKIP LOCKED: si hay mas de una instancia cada una toma filas distintas sin esperar
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status IN ('PENDING', 'SENDING') AND next_attempt_at <= :now
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // sigue siendo nuestro si nadie lo envio ni lo volvio a tomar despues de vencer el lease
+    @Query("SELECT COUNT(e) > 0 FROM EmailOutbox e WHERE e.id = :id AND e.status = :status AND e.attempts = :attempts")
+    boolean existsClaim(@Param("id") Long id, @Param("status") EmailOutbox.Status status,
+            @Param("attempts") int attempts);
+
+    @Query("SELECT e.status, COUNT(e) FROM EmailOutbox e WHERE e.campaign = :campaign GROUP BY e.status")
+    List<Object[]> countByStatus(@Param("campaign") String campaign);
+
+    // los terminados (SENT o FAILED) ya no se reintentan, solo ocupan espacio
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE status IN ('SENT', 'FAILED') AND created_at < :before
+            """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,71 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.FleetHealthRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FleetHealthRollupRepository extends JpaRepository<FleetHealthRollup, Long> {
+
+    List<FleetHealthRollup> findByGranularityAndBucketStartGreaterThanEqualOrderByBucketStart(
+            FleetHealthRollup.Granularity granularity, LocalDate from);
+
+    /** Copia el estado actual de todos los vehiculos a vehicle_health_snapshot. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO vehicle_health_snapshot
+                (vehicle_id, taken_at, fuel_efficiency, battery_health, engine_health, km_recorrido, needs_maintenance)
+            SELECT id, :takenAt, fuel_efficiency, battery_health, engine_health, km_recorrido,
+                   COALESCE(battery_health < 70 OR engine_health < 70, false)
+            FROM vehicle
+            """, nativeQuery = true)
+    int insertSnapshot(@Param("takenAt") LocalDateTime takenAt);
+
+    /**
+     * Suma la foto tomada en {@code takenAt} al bucket (mes o semana) que le
+     * corresponde, creandolo si no existe.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO fleet_health_rollup
+                (granularity, bucket_start, snapshot_count, fuel_efficiency_sum, fuel_efficiency_count, maintenance_sum)
+            SELECT :granularity,
+                   CAST(date_trunc(:unit, CAST(:takenAt AS timestamp)) AS date),
+                   1,
+                   COALESCE(SUM(fuel_efficiency), 0),
+                   COUNT(fuel_efficiency),
+                   COUNT(*) FILTER (WHERE needs_maintenance)
+            FROM vehicle_health_snapshot
+            WHERE taken_at = :takenAt
+            ON CONFLICT (granularity, bucket_start) DO UPDATE SET
+                snapshot_count = fleet_health_rollup.snapshot_count + EXCLUDED.snapshot_count,
+                fuel_efficiency_sum = fleet_health_rollup.fuel_efficiency_sum + EXCLUDED.fuel_efficiency_sum,
+                fuel_efficiency_count = fleet_health_rollup.fuel_efficiency_count + EXCLUDED.fuel_efficiency_count,
+                maintenance_sum = fleet_health_rollup.maintenance_sum + EXCLUDED.maintenance_sum
+            """, nativeQuery = true)
+    int addSnapshotToRollup(@Param("takenAt") LocalDateTime takenAt,
+            @Param("granularity") String granularity,
+            @Param("unit") String unit);
+
+    /**
+     * Lock de Postgres hasta el fin de la transaccion; false si otra instancia
+     * ya lo tiene.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(@Param("key") long key);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM vehicle_health_snapshot WHERE taken_at >= :since)", nativeQuery = true)
+    boolean existsSnapshotSince(@Param("since") LocalDateTime since);
+
+    /** Las fotos ya estan sumadas en fleet_health_rollup; las viejas se pueden borrar. */
+    @Modifying
+    @Query(value = "DELETE FROM vehicle_health_snapshot WHERE taken_at < :before", nativeQuery = true)
+    int deleteSnapshotsBefore(@Param("before") LocalDateTime before);
+}
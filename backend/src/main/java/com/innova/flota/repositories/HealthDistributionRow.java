@@ -0,0 +1,16 @@
+package com.innova.flota.repositories;
+
+/**
+ * Fila de {@link VehicleRepository#findHealthDistribution}.
+ */
+public interface HealthDistributionRow {
+    String getGroupKey();
+
+    long getExcellent();
+
+    long getGood();
+
+    long getFair();
+
+    long getPoor();
+}
@@ -0,0 +1,41 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.MaintenancePredict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Upsert por lotes de maintenance_predict: una fila por vehiculo ("car-id" es unico),
+ * cada barrido pisa la prediccion anterior.
+ */
+@Repository
+public class MaintenancePredictBatchRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO maintenance_predict ("car-id", confidence_score, needs_maintenance, predicted)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT ("car-id") DO UPDATE
+            SET confidence_score = EXCLUDED.confidence_score,
+                needs_maintenance = EXCLUDED.needs_maintenance,
+                predicted = EXCLUDED.predicted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MaintenancePredictBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int upsertAll(List<MaintenancePredict> predictions, int batchSize) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, predictions, batchSize, (ps, prediction) -> {
+            ps.setLong(1, prediction.getCarId());
+            ps.setObject(2, prediction.getConfidenceScore(), Types.REAL);
+            ps.setObject(3, prediction.getNeedsMaintenance(), Types.BOOLEAN);
+            ps.setObject(4, prediction.getPredicted(), Types.TIMESTAMP);
+        });
+        return predictions.size();
+    }
+}
@@ -3,5 +3,10 @@ package com.innova.flota.repositories;
 import com.innova.flota.model.QRCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface QRCodeRepository extends JpaRepository<QRCode,Long> {
+    Optional<QRCode> findByPayloadHash(String payloadHash);
+
+    Optional<QRCode> findFirstByVehicleIdOrderByIdDesc(Long vehicleId);
 }
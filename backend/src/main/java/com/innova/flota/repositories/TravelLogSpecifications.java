@@ -0,0 +1,47 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.TravelLog;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros y keyset para paginar travel_log. El orden es (created_at DESC, id
+ * DESC), cubierto por los indices declarados en {@link TravelLog}.
+ */
+public final class TravelLogSpecifications {
+
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private TravelLogSpecifications() {
+    }
+
+    public static Specification<TravelLog> vehicleId(Long vehicleId) {
+        return (root, query, cb) -> vehicleId == null ? null : cb.equal(root.get("vehicleId"), vehicleId);
+    }
+
+    public static Specification<TravelLog> state(String state) {
+        return (root, query, cb) -> state == null ? null : cb.equal(root.get("state"), state);
+    }
+
+    public static Specification<TravelLog> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<TravelLog> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("createdAt"), to);
+    }
+
+    /** Registros estrictamente despues del cursor en el orden NEWEST_FIRST. */
+    public static Specification<TravelLog> after(LocalDateTime createdAt, Long id) {
+        return (root, query, cb) -> {
+            if (createdAt == null || id == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), createdAt),
+                    cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+        };
+    }
+}
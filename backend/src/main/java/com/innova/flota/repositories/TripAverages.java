@@ -0,0 +1,12 @@
+package com.innova.flota.repositories;
+
+/**
+ * Fila de {@link TravelLogRepository#findTripAverages}.
+ */
+public interface TripAverages {
+    Long getVehicleId();
+
+    Double getAvgSpeed();
+
+    Double getAvgAcceleration();
+}
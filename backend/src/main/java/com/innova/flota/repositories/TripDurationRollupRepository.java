@@ -0,0 +1,16 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.TripDurationRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TripDurationRollupRepository extends JpaRepository<TripDurationRollup, Long> {
+
+    List<TripDurationRollup> findByScopeAndBucketKeyGreaterThanEqual(TripDurationRollup.Scope scope, long bucketKey);
+
+    List<TripDurationRollup> findByScopeAndBucketKeyIn(TripDurationRollup.Scope scope, Collection<Long> bucketKeys);
+}
@@ -2,12 +2,15 @@ package com.innova.flota.repositories;
 
 import com.innova.flota.model.Vehicle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpecificationExecutor<Vehicle> {
     @Query("SELECT AVG(v.fuelEfficiency) FROM Vehicle v WHERE v.fuelEfficiency IS NOT NULL")
     Double findAverageFuelEfficiency();
 
@@ -23,6 +26,59 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     @Query("SELECT SUM(v.kmRecorrido) FROM Vehicle v")
     Long sumTotalKilometers();
 
+    // vehiculos asignados al conductor (el subject del JWT es el email)
+    @Query("SELECT v.id FROM Vehicle v WHERE v.driver.email = :email")
+    List<Long> findIdsByDriverEmail(@Param("email") String email);
+
     @Query("SELECT COUNT(v) FROM Vehicle v WHERE ((v.batteryHealth + v.engineHealth) / 2) BETWEEN :minHealth AND :maxHealth")
     long countByHealthRange(@Param("minHealth") int minHealth, @Param("maxHealth") int maxHealth);
+
+    /**
+     * Agregados escalares del dashboard en un solo viaje a la base: una pasada
+     * sobre vehicle y la duracion promedio desde las 7 filas por dia de la
+     * semana de trip_duration_rollup.
+     */
+    @Query(value = """
+            SELECT v.total_vehicles AS totalVehicles,
+                   v.avg_fuel_efficiency AS avgFuelEfficiency,
+                   v.vehicles_needing_maintenance AS vehiclesNeedingMaintenance,
+                   t.avg_trip_minutes AS avgTripMinutes
+            FROM (
+                SELECT COUNT(*) AS total_vehicles,
+                       AVG(fuel_efficiency) AS avg_fuel_efficiency,
+                       COUNT(*) FILTER (WHERE battery_health < 70 OR engine_health < 70) AS vehicles_needing_maintenance
+                FROM vehicle
+            ) v
+            CROSS JOIN (
+                SELECT SUM(total_minutes) / NULLIF(SUM(trip_count), 0) AS avg_trip_minutes
+                FROM trip_duration_rollup
+                WHERE scope = 'DOW'
+            ) t
+            """, nativeQuery = true)
+    DashboardTotals findDashboardTotals();
+
+    /**
+     * Histograma de salud en una sola pasada sobre vehicle, con todos los rangos
+     * en la misma consulta. {@code groupBy} puede ser MARCA, MODELO o NONE
+     * (una sola fila para toda la flota). Los vehiculos sin datos de salud no
+     * se cuentan.
+     */
+    @Query(value = """
+            SELECT CASE :groupBy WHEN 'MARCA' THEN marca WHEN 'MODELO' THEN modelo END AS groupKey,
+                   COUNT(*) FILTER (WHERE health >= :excellentMin) AS excellent,
+                   COUNT(*) FILTER (WHERE health >= :goodMin AND health < :excellentMin) AS good,
+                   COUNT(*) FILTER (WHERE health >= :fairMin AND health < :goodMin) AS fair,
+                   COUNT(*) FILTER (WHERE health < :fairMin) AS poor
+            FROM (
+                SELECT marca, modelo, (battery_health + engine_health) / 2 AS health
+                FROM vehicle
+                WHERE battery_health IS NOT NULL AND engine_health IS NOT NULL
+            ) v
+            GROUP BY 1
+            ORDER BY 1
+            """, nativeQuery = true)
+    List<HealthDistributionRow> findHealthDistribution(@Param("groupBy") String groupBy,
+            @Param("excellentMin") double excellentMin,
+            @Param("goodMin") double goodMin,
+            @Param("fairMin") double fairMin);
 }
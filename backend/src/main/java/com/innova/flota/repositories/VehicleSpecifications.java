@@ -0,0 +1,33 @@
+package com.innova.flota.repositories;
+
+import com.innova.flota.model.Vehicle;
+import com.innova.flota.model.VehicleStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filtros y keyset (por id) para paginar vehiculos.
+ */
+public final class VehicleSpecifications {
+
+    public static final Sort BY_ID = Sort.by(Sort.Order.asc("id"));
+
+    private VehicleSpecifications() {
+    }
+
+    public static Specification<Vehicle> status(VehicleStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Vehicle> marca(String marca) {
+        return (root, query, cb) -> marca == null ? null : cb.equal(root.get("marca"), marca);
+    }
+
+    public static Specification<Vehicle> modelo(String modelo) {
+        return (root, query, cb) -> modelo == null ? null : cb.equal(root.get("modelo"), modelo);
+    }
+
+    public static Specification<Vehicle> afterId(Long id) {
+        return (root, query, cb) -> id == null ? null : cb.greaterThan(root.get("id"), id);
+    }
+}
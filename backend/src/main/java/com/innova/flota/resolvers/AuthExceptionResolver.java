@@ -0,0 +1,51 @@
+package com.innova.flota.resolvers;
+
+import com.innova.flota.services.AuthService;
+import com.innova.flota.services.PasswordHasher;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Errores de login/registro con un tipo que el cliente pueda distinguir: credenciales
+ * malas, datos invalidos o servicio ocupado (reintentar), en vez de INTERNAL_ERROR.
+ */
+@Component
+public class AuthExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    private static final ErrorClassification UNAVAILABLE = ErrorClassification.errorClassification("UNAVAILABLE");
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof AuthService.InvalidCredentialsException) {
+            return error(env, ErrorType.UNAUTHORIZED, cause.getMessage());
+        }
+        if (cause instanceof PasswordHasher.BusyException) {
+            return error(env, UNAVAILABLE, cause.getMessage());
+        }
+        if (cause instanceof TimeoutException && isAuthField(env)) {
+            return error(env, UNAVAILABLE, "El inicio de sesión tardó demasiado, intenta de nuevo");
+        }
+        if (cause instanceof IllegalArgumentException && isAuthField(env)) {
+            return error(env, ErrorType.BAD_REQUEST, cause.getMessage());
+        }
+        return null;
+    }
+
+    private static boolean isAuthField(DataFetchingEnvironment env) {
+        String field = env.getField().getName();
+        return field.equals("login") || field.equals("register");
+    }
+
+    private static GraphQLError error(DataFetchingEnvironment env, ErrorClassification type, String message) {
+        return GraphqlErrorBuilder.newError(env).errorType(type).message(message).build();
+    }
+}
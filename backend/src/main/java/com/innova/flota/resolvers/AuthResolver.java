@@ -0,0 +1,28 @@
+package com.innova.flota.resolvers;
+
+import com.innova.flota.services.AuthService;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+public class AuthResolver {
+
+    private final AuthService authService;
+
+    public AuthResolver(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @MutationMapping
+    public CompletableFuture<AuthService.AuthPayload> register(@Argument AuthService.RegisterInput input) {
+        return authService.register(input);
+    }
+
+    @MutationMapping
+    public CompletableFuture<AuthService.AuthPayload> login(@Argument AuthService.LoginInput input) {
+        return authService.login(input);
+    }
+}
@@ -0,0 +1,100 @@
+package com.innova.flota.resolvers;
+
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursores opacos para la paginacion keyset. El contenido es la clave de orden
+ * del ultimo elemento ("id" o "createdAt|id") en base64 url-safe.
+ */
+final class Cursors {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private Cursors() {
+    }
+
+    static int pageSize(Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (first < 0) {
+            throw new IllegalArgumentException("first no puede ser negativo");
+        }
+        return Math.min(first, MAX_PAGE_SIZE);
+    }
+
+    static String encode(Long id) {
+        return encodeRaw(String.valueOf(id));
+    }
+
+    static String encode(LocalDateTime createdAt, Long id) {
+        return encodeRaw(createdAt + "|" + id);
+    }
+
+    static Long decodeId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(decodeRaw(cursor));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor invalido: " + cursor);
+        }
+    }
+
+    /** Devuelve {createdAt, id}, o null si no hay cursor. */
+    static Object[] decodeTimeAndId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String raw = decodeRaw(cursor);
+            int separator = raw.lastIndexOf('|');
+            return new Object[] {
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1))
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor invalido: " + cursor);
+        }
+    }
+
+    /**
+     * Arma la conexion a partir de hasta {@code pageSize + 1} filas: la fila
+     * extra solo indica que hay una pagina siguiente.
+     */
+    static <T> Connection<T> connection(List<T> rows, int pageSize, boolean hasPrevious,
+            Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> page = hasNext ? rows.subList(0, pageSize) : rows;
+        List<Edge<T>> edges = new ArrayList<>(page.size());
+        for (T node : page) {
+            edges.add(new DefaultEdge<>(node, new DefaultConnectionCursor(cursorOf.apply(node))));
+        }
+        ConnectionCursor start = edges.isEmpty() ? null : edges.get(0).getCursor();
+        ConnectionCursor end = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new DefaultConnection<>(edges, new DefaultPageInfo(start, end, hasPrevious, hasNext));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
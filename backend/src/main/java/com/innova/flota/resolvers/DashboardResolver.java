@@ -1,9 +1,12 @@
 package com.innova.flota.resolvers;
 
+import com.innova.flota.model.FleetHealthDistribution;
 import com.innova.flota.services.DashboardService;
+import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -19,4 +22,19 @@ public class DashboardResolver {
     public Map<String, Object> dashboardStats() {
         return dashboardService.getDashboardStats();
     }
+
+    @QueryMapping
+    public FleetHealthDistribution fleetHealthDistribution() {
+        List<FleetHealthDistribution> rows = dashboardService.getFleetHealthDistribution(null);
+        return rows.isEmpty() ? new FleetHealthDistribution(null, 0, 0, 0, 0) : rows.get(0);
+    }
+
+    @QueryMapping
+    public List<FleetHealthDistribution> fleetHealthDistributionBy(@Argument FleetHealthGroupBy groupBy) {
+        return dashboardService.getFleetHealthDistribution(groupBy.name());
+    }
+
+    public enum FleetHealthGroupBy {
+        MARCA, MODELO
+    }
 }
@@ -0,0 +1,66 @@
+package com.innova.flota.resolvers;
+
+import com.innova.flota.model.MaintenanceTicket;
+import com.innova.flota.model.QRCode;
+import com.innova.flota.repositories.MaintenanceTicketRepository;
+import com.innova.flota.repositories.WorkshopRepository;
+import com.innova.flota.services.QrGenerator;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Controller
+public class MaintenanceTicketResolver {
+
+    private final MaintenanceTicketRepository maintenanceTicketRepository;
+    private final WorkshopRepository workshopRepository;
+    private final QrGenerator qrGenerator;
+
+    public MaintenanceTicketResolver(MaintenanceTicketRepository maintenanceTicketRepository,
+            WorkshopRepository workshopRepository, QrGenerator qrGenerator) {
+        this.maintenanceTicketRepository = maintenanceTicketRepository;
+        this.workshopRepository = workshopRepository;
+        this.qrGenerator = qrGenerator;
+    }
+
+    // qrCodeId es el token escaneado (FL1...); el id numerico solo con qr.legacy-numeric-ids.enabled
+    @MutationMapping
+    public MaintenanceTicket scheduleMaintenance(@Argument ScheduledMaintenanceInput scheduledMaintenance) {
+        QRCode qrCode = qrGenerator.findScanned(scheduledMaintenance.qrCodeId())
+                .filter(qr -> qr.getVehicleId() != null)
+                .orElseThrow(() -> new IllegalArgumentException("No se encontró el QR"));
+        if (!workshopRepository.existsById(scheduledMaintenance.workshopId())) {
+            throw new IllegalArgumentException("No se encontró el taller");
+        }
+
+        MaintenanceTicket ticket = new MaintenanceTicket();
+        ticket.setVehicleId(qrCode.getVehicleId());
+        ticket.setWorkshopId(scheduledMaintenance.workshopId());
+        ticket.setStatus("PENDING");
+        ticket.setFechaMantencion(parseDate(scheduledMaintenance.date()));
+        ticket.setCreatedAt(LocalDateTime.now());
+        return maintenanceTicketRepository.save(ticket);
+    }
+
+    // el schema expone vehicleID, la entidad vehicleId
+    @SchemaMapping(typeName = "MaintenanceTicket", field = "vehicleID")
+    public Long vehicleID(MaintenanceTicket ticket) {
+        return ticket.getVehicleId();
+    }
+
+    // acepta ISO con o sin zona ("2025-11-20T10:00:00Z" o "2025-11-20T10:00:00")
+    private static LocalDateTime parseDate(String value) {
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    public record ScheduledMaintenanceInput(
+            String qrCodeId,
+            Long workshopId,
+            String date
+    ) {
+    }
+}
@@ -4,26 +4,41 @@ import com.innova.flota.model.Point;
 import com.innova.flota.model.TravelLog;
 import com.innova.flota.model.Vehicle;
 import com.innova.flota.repositories.TravelLogRepository;
+import com.innova.flota.repositories.TravelLogSpecifications;
 import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.services.LivePositionStore;
+import com.innova.flota.services.TravelLogIngestService;
+import graphql.relay.Connection;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Controller
 public class TravelLogResolver {
 
     private final TravelLogRepository travelLogRepository;
     private final VehicleRepository vehicleRepository;
+    private final TravelLogIngestService travelLogIngestService;
+    private final LivePositionStore livePositionStore;
 
-    public TravelLogResolver(TravelLogRepository travelLogRepository, VehicleRepository vehicleRepository) {
+    public TravelLogResolver(TravelLogRepository travelLogRepository, VehicleRepository vehicleRepository,
+            TravelLogIngestService travelLogIngestService, LivePositionStore livePositionStore) {
         this.travelLogRepository = travelLogRepository;
         this.vehicleRepository = vehicleRepository;
+        this.travelLogIngestService = travelLogIngestService;
+        this.livePositionStore = livePositionStore;
     }
 
     @QueryMapping
@@ -31,6 +46,30 @@ public class TravelLogResolver {
         return travelLogRepository.findAll();
     }
 
+    @QueryMapping
+    public Connection<TravelLog> travelLogsConnection(@Argument Integer first, @Argument String after,
+            @Argument TravelLogFilter filter) {
+        int pageSize = Cursors.pageSize(first);
+        Object[] cursor = Cursors.decodeTimeAndId(after);
+        TravelLogFilter criteria = filter != null ? filter : new TravelLogFilter(null, null, null, null);
+
+        Specification<TravelLog> spec = Specification
+                .where(TravelLogSpecifications.vehicleId(criteria.vehicleId()))
+                .and(TravelLogSpecifications.state(criteria.state()))
+                .and(TravelLogSpecifications.createdFrom(parseDateTime(criteria.from())))
+                .and(TravelLogSpecifications.createdBefore(parseDateTime(criteria.to())));
+        if (cursor != null) {
+            spec = spec.and(TravelLogSpecifications.after((LocalDateTime) cursor[0], (Long) cursor[1]));
+        }
+
+        List<TravelLog> rows = travelLogRepository.findBy(spec, query -> query
+                .sortBy(TravelLogSpecifications.NEWEST_FIRST)
+                .limit(pageSize + 1)
+                .all());
+        return Cursors.connection(rows, pageSize, cursor != null,
+                log -> Cursors.encode(log.getCreatedAt(), log.getId()));
+    }
+
     @QueryMapping
     public TravelLog travelLogById(@Argument Long id) {
         return travelLogRepository.findById(id).orElse(null);
@@ -38,62 +77,79 @@ public class TravelLogResolver {
 
     @MutationMapping
     public TravelLog addTravelLog(@Argument TravelLogInput travelLog) {
-        TravelLog log = new TravelLog();
-        log.setVehicleId(travelLog.vehicleId());
-        log.setStartPosition(formatPoint(travelLog.startLatitude(), travelLog.startLongitude()));
-        if (travelLog.endLatitude() != null && travelLog.endLongitude() != null) {
-            log.setEndPosition(formatPoint(travelLog.endLatitude(), travelLog.endLongitude()));
-        } else {
-            log.setEndPosition(formatPoint(travelLog.startLatitude(), travelLog.startLongitude()));
+        TravelLog saved = travelLogRepository.save(toTravelLog(travelLog, LocalDateTime.now()));
+        livePositionStore.update(saved);
+        return saved;
+    }
+
+    @MutationMapping
+    public int addTravelLogs(@Argument List<TravelLogInput> travelLogs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TravelLog> logs = new ArrayList<>(travelLogs.size());
+        for (TravelLogInput input : travelLogs) {
+            logs.add(toTravelLog(input, now));
         }
-        log.setAvgSpeed(travelLog.avgSpeed());
-        log.setAvgAcceleration(travelLog.avgAcceleration());
-        log.setState(travelLog.state());
-        log.setCreatedAt(LocalDateTime.now());
-        return travelLogRepository.save(log);
+        return travelLogIngestService.ingest(logs);
     }
 
-    @SchemaMapping(typeName = "TravelLog", field = "vehicle")
-    public Vehicle vehicle(TravelLog log) {
-        return vehicleRepository.findById(log.getVehicleId()).orElse(null);
+    // un solo SELECT ... WHERE id IN (...) por request en vez de uno por registro
+    @BatchMapping(typeName = "TravelLog", field = "vehicle")
+    public List<Vehicle> vehicle(List<TravelLog> logs) {
+        Set<Long> vehicleIds = new HashSet<>();
+        for (TravelLog log : logs) {
+            vehicleIds.add(log.getVehicleId());
+        }
+        Map<Long, Vehicle> vehiclesById = new HashMap<>();
+        for (Vehicle vehicle : vehicleRepository.findAllById(vehicleIds)) {
+            vehiclesById.put(vehicle.getId(), vehicle);
+        }
+        List<Vehicle> result = new ArrayList<>(logs.size());
+        for (TravelLog log : logs) {
+            result.add(vehiclesById.get(log.getVehicleId()));
+        }
+        return result;
     }
 
     @SchemaMapping(typeName = "TravelLog", field = "startPosition")
     public Point startPosition(TravelLog log) {
-        return parsePoint(log.getStartPosition());
+        return new Point(log.getStartLatitude(), log.getStartLongitude());
     }
 
     @SchemaMapping(typeName = "TravelLog", field = "endPosition")
     public Point endPosition(TravelLog log) {
-        return parsePoint(log.getEndPosition());
+        return new Point(log.getEndLatitude(), log.getEndLongitude());
     }
 
-    private static String formatPoint(Double latitude, Double longitude) {
-        if (latitude == null || longitude == null) {
-            return null;
+    private static TravelLog toTravelLog(TravelLogInput travelLog, LocalDateTime createdAt) {
+        TravelLog log = new TravelLog();
+        log.setVehicleId(travelLog.vehicleId());
+        log.setStartLatitude(travelLog.startLatitude());
+        log.setStartLongitude(travelLog.startLongitude());
+        // sin posicion final se asume que el viaje termina donde empezo
+        if (travelLog.endLatitude() != null && travelLog.endLongitude() != null) {
+            log.setEndLatitude(travelLog.endLatitude());
+            log.setEndLongitude(travelLog.endLongitude());
+        } else {
+            log.setEndLatitude(travelLog.startLatitude());
+            log.setEndLongitude(travelLog.startLongitude());
         }
-        return String.format(Locale.US, "(%f, %f)", latitude, longitude);
+        log.setAvgSpeed(travelLog.avgSpeed());
+        log.setAvgAcceleration(travelLog.avgAcceleration());
+        log.setState(travelLog.state());
+        log.setCreatedAt(createdAt);
+        return log;
     }
 
-    private static Point parsePoint(String raw) {
-        if (raw == null || raw.isBlank()) {
-            return new Point(0.0, 0.0);
-        }
-        String trimmed = raw.trim();
-        if (trimmed.startsWith("(") && trimmed.endsWith(")")) {
-            trimmed = trimmed.substring(1, trimmed.length() - 1);
-        }
-        String[] parts = trimmed.split(",");
-        if (parts.length != 2) {
-            return new Point(0.0, 0.0);
-        }
-        try {
-            Double x = Double.parseDouble(parts[0].trim());
-            Double y = Double.parseDouble(parts[1].trim());
-            return new Point(x, y);
-        } catch (NumberFormatException ex) {
-            return new Point(0.0, 0.0);
-        }
+    private static LocalDateTime parseDateTime(String value) {
+        return value == null || value.isBlank() ? null : LocalDateTime.parse(value);
+    }
+
+    public record TravelLogFilter(
+            Long vehicleId,
+            String state,
+            String from,
+            String to
+    ) {
     }
 
     public record TravelLogInput(
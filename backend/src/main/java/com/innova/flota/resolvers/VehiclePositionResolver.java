@@ -0,0 +1,30 @@
+package com.innova.flota.resolvers;
+
+import com.innova.flota.model.VehiclePosition;
+import com.innova.flota.services.LivePositionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+@Controller
+public class VehiclePositionResolver {
+
+    private final LivePositionStore livePositionStore;
+
+    @Value("${live-positions.emit-interval-ms:1000}")
+    private long emitIntervalMs;
+
+    public VehiclePositionResolver(LivePositionStore livePositionStore) {
+        this.livePositionStore = livePositionStore;
+    }
+
+    @SubscriptionMapping
+    public Flux<List<VehiclePosition>> vehiclePositions(@Argument List<Long> vehicleIds) {
+        return livePositionStore.updates(vehicleIds, Duration.ofMillis(emitIntervalMs));
+    }
+}
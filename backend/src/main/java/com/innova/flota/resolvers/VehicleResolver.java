@@ -2,23 +2,38 @@ package com.innova.flota.resolvers;
 
 import com.innova.flota.model.Users;
 import com.innova.flota.model.Vehicle;
+import com.innova.flota.model.VehicleStatus;
 import com.innova.flota.repositories.VehicleRepository;
 import com.innova.flota.repositories.UsersRepository;
+import com.innova.flota.repositories.VehicleSpecifications;
+import com.innova.flota.services.TripDurationRollupService;
+import graphql.relay.Connection;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Controller
 public class VehicleResolver {
 
     private final VehicleRepository vehicleRepository;
     private final UsersRepository usersRepository;
+    private final TripDurationRollupService tripDurationRollupService;
 
-    public VehicleResolver(VehicleRepository vehicleRepository, UsersRepository usersRepository) {
+    public VehicleResolver(VehicleRepository vehicleRepository, UsersRepository usersRepository,
+            TripDurationRollupService tripDurationRollupService) {
         this.vehicleRepository = vehicleRepository;
         this.usersRepository = usersRepository;
+        this.tripDurationRollupService = tripDurationRollupService;
     }
 
     @QueryMapping
@@ -26,11 +41,63 @@ public class VehicleResolver {
         return vehicleRepository.findAll();
     }
 
+    @QueryMapping
+    public Connection<Vehicle> vehiclesConnection(@Argument Integer first, @Argument String after,
+            @Argument VehicleFilter filter) {
+        int pageSize = Cursors.pageSize(first);
+        Long afterId = Cursors.decodeId(after);
+        VehicleFilter criteria = filter != null ? filter : new VehicleFilter(null, null, null);
+
+        Specification<Vehicle> spec = Specification
+                .where(VehicleSpecifications.status(criteria.status()))
+                .and(VehicleSpecifications.marca(criteria.marca()))
+                .and(VehicleSpecifications.modelo(criteria.modelo()))
+                .and(VehicleSpecifications.afterId(afterId));
+
+        List<Vehicle> rows = vehicleRepository.findBy(spec, query -> query
+                .sortBy(VehicleSpecifications.BY_ID)
+                .limit(pageSize + 1)
+                .all());
+        return Cursors.connection(rows, pageSize, afterId != null, vehicle -> Cursors.encode(vehicle.getId()));
+    }
+
     @QueryMapping
     public Vehicle vehicleById(@Argument Long id) {
         return vehicleRepository.findById(id).orElse(null);
     }
 
+    // driver es LAZY: getDriver().getId() lee el id del proxy sin inicializarlo
+    @BatchMapping(typeName = "Vehicle", field = "driver")
+    public List<Users> driver(List<Vehicle> vehicles) {
+        Set<Long> driverIds = new HashSet<>();
+        for (Vehicle vehicle : vehicles) {
+            if (vehicle.getDriver() != null) {
+                driverIds.add(vehicle.getDriver().getId());
+            }
+        }
+        Map<Long, Users> driversById = new HashMap<>();
+        for (Users driver : usersRepository.findAllById(driverIds)) {
+            driversById.put(driver.getId(), driver);
+        }
+        List<Users> result = new ArrayList<>(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            result.add(vehicle.getDriver() != null ? driversById.get(vehicle.getDriver().getId()) : null);
+        }
+        return result;
+    }
+
+    // sale del rollup por vehiculo, no de travel_log: una consulta por pagina de vehiculos
+    @BatchMapping(typeName = "Vehicle", field = "avgTripMinutes")
+    public List<Double> avgTripMinutes(List<Vehicle> vehicles) {
+        List<Long> ids = vehicles.stream().map(Vehicle::getId).toList();
+        Map<Long, Double> averages = tripDurationRollupService.averageMinutesByVehicle(ids);
+        List<Double> result = new ArrayList<>(vehicles.size());
+        for (Long id : ids) {
+            result.add(averages.get(id));
+        }
+        return result;
+    }
+
     @MutationMapping
     public Vehicle addVehicle(@Argument VehicleInput vehicle) {
         Users driver = usersRepository.findById(vehicle.driverId())
@@ -49,6 +116,13 @@ public class VehicleResolver {
         return vehicleRepository.save(newVehicle);
     }
 
+    public record VehicleFilter(
+            VehicleStatus status,
+            String marca,
+            String modelo
+    ) {
+    }
+
     public record VehicleInput(
             String patente,
             String marca,
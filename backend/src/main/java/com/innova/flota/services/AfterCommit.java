@@ -0,0 +1,28 @@
+package com.innova.flota.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Corre una accion cuando la transaccion actual hace commit (nunca si hace
+ * rollback). Sin transaccion activa la corre en el momento. Sirve para avisar
+ * a caches y suscriptores solo de datos que ya quedaron escritos.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.Users;
+import com.innova.flota.repositories.UsersRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Registro e inicio de sesion. Las consultas a la base son en el hilo del request;
+ * el BCrypt va al pool de {@link PasswordHasher} y el resultado vuelve como
+ * CompletableFuture, asi el hilo del servlet queda libre mientras se hashea. Lo que
+ * sigue despues del hash y toca la base (guardar el usuario) corre en el executor de
+ * tareas de la app, no en un hilo del pool de hashing.
+ */
+@Service
+public class AuthService {
+
+    private final UsersRepository usersRepository;
+    private final JwtService jwtService;
+    private final PasswordHasher passwordHasher;
+    private final Executor taskExecutor;
+
+    public AuthService(UsersRepository usersRepository, JwtService jwtService, PasswordHasher passwordHasher,
+            @Qualifier("applicationTaskExecutor") Executor taskExecutor) {
+        this.usersRepository = usersRepository;
+        this.jwtService = jwtService;
+        this.passwordHasher = passwordHasher;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public record AuthPayload(String token, Users user) {
+    }
+
+    public record RegisterInput(String username, String email, String password, String phone, String role) {
+    }
+
+    public record LoginInput(String email, String password) {
+    }
+
+    public CompletableFuture<AuthPayload> register(RegisterInput input) {
+        Users.Role role = parseRole(input.role());
+        if (input.password() == null || input.password().length() < 8) {
+            throw new IllegalArgumentException("La contraseña debe tener al menos 8 caracteres");
+        }
+        if (usersRepository.existsByEmail(input.email())) {
+            throw new IllegalArgumentException("El email ya está registrado");
+        }
+        if (usersRepository.existsByUsername(input.username())) {
+            throw new IllegalArgumentException("El nombre de usuario ya está en uso");
+        }
+
+        return passwordHasher.encode(input.password()).thenApplyAsync(hash -> {
+            Users user = new Users();
+            user.setUsername(input.username());
+            user.setEmail(input.email());
+            user.setPhone(input.phone());
+            user.setPassword(hash);
+            user.setRole(role);
+            try {
+                user = usersRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                // otro registro con el mismo email/usuario gano la carrera
+                throw new IllegalArgumentException("El email o el nombre de usuario ya están registrados");
+            }
+            return new AuthPayload(tokenFor(user), user);
+        }, taskExecutor);
+    }
+
+    public CompletableFuture<AuthPayload> login(LoginInput input) {
+        Users user = usersRepository.findByEmail(input.email()).orElse(null);
+        // sin usuario igual se hashea, para no revelar que emails existen por el tiempo de respuesta
+        return passwordHasher.matches(input.password(), user == null ? null : user.getPassword())
+                .thenApply(valid -> {
+                    if (!valid) {
+                        throw new InvalidCredentialsException();
+                    }
+                    return new AuthPayload(tokenFor(user), user);
+                });
+    }
+
+    private String tokenFor(Users user) {
+        Map<String, Object> claims = user.getRole() == null ? Map.of() : Map.of("role", user.getRole().name());
+        return jwtService.generateToken(claims, user.getEmail());
+    }
+
+    // las cuentas ADMIN no se crean desde el registro publico
+    private static Users.Role parseRole(String value) {
+        Users.Role role;
+        try {
+            role = Users.Role.valueOf(value == null ? "" : value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Rol inválido: " + value);
+        }
+        if (role == Users.Role.ADMIN) {
+            throw new IllegalArgumentException("No se puede registrar un usuario ADMIN");
+        }
+        return role;
+    }
+
+    public static class InvalidCredentialsException extends RuntimeException {
+        public InvalidCredentialsException() {
+            super("Credenciales inválidas");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.innova.flota.services;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA de las entidades que alimentan el dashboard. Hibernate lo crea
+ * a traves del contenedor de beans de Spring, por eso puede recibir el cache.
+ * Invalida despues del commit: si lo hiciera antes, un refresco concurrente
+ * podria recargar los numeros viejos y dejarlos hasta el TTL.
+ */
+public class DashboardInvalidationListener {
+
+    private final DashboardStatsCache dashboardStatsCache;
+
+    public DashboardInvalidationListener(DashboardStatsCache dashboardStatsCache) {
+        this.dashboardStatsCache = dashboardStatsCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        AfterCommit.run(dashboardStatsCache::invalidate);
+    }
+}
@@ -1,8 +1,11 @@
 package com.innova.flota.services;
 
+import com.innova.flota.model.FleetHealthDistribution;
+import com.innova.flota.repositories.DashboardTotals;
+import com.innova.flota.repositories.HealthDistributionRow;
 import com.innova.flota.repositories.VehicleRepository;
-import com.innova.flota.repositories.TravelLogRepository;
 import com.innova.flota.repositories.MaintenanceTicketRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -10,81 +13,78 @@ import java.util.*;
 @Service
 public class DashboardService {
 
+    // limites inferiores de cada rango de salud (0-100)
+    @Value("${fleet-health.excellent-min:85}")
+    private double excellentMin;
+
+    @Value("${fleet-health.good-min:70}")
+    private double goodMin;
+
+    @Value("${fleet-health.fair-min:50}")
+    private double fairMin;
+
     private final VehicleRepository vehicleRepository;
-    private final TravelLogRepository travelLogRepository;
     private final MaintenanceTicketRepository maintenanceTicketRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final FleetHistoryService fleetHistoryService;
+    private final TripDurationRollupService tripDurationRollupService;
 
     public DashboardService(VehicleRepository vehicleRepository,
-            TravelLogRepository travelLogRepository,
-            MaintenanceTicketRepository maintenanceTicketRepository) {
+            MaintenanceTicketRepository maintenanceTicketRepository,
+            DashboardStatsCache dashboardStatsCache,
+            FleetHistoryService fleetHistoryService,
+            TripDurationRollupService tripDurationRollupService) {
         this.vehicleRepository = vehicleRepository;
-        this.travelLogRepository = travelLogRepository;
         this.maintenanceTicketRepository = maintenanceTicketRepository;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.fleetHistoryService = fleetHistoryService;
+        this.tripDurationRollupService = tripDurationRollupService;
     }
 
     public Map<String, Object> getDashboardStats() {
+        return dashboardStatsCache.get(this::computeDashboardStats);
+    }
+
+    private Map<String, Object> computeDashboardStats() {
         Map<String, Object> stats = new HashMap<>();
 
-        // stats basicos
-        stats.put("totalVehicles", vehicleRepository.count());
-        stats.put("avgFuelEfficiency", roundToTwo(vehicleRepository.findAverageFuelEfficiency()));
-        stats.put("avgTripTime",
-                Math.round(travelLogRepository.findAverageTripDuration() != null
-                        ? travelLogRepository.findAverageTripDuration()
-                        : 0));
-        stats.put("vehiclesInMaintenance", vehicleRepository.countVehiclesNeedingMaintenance());
+        // stats basicos, todos en una sola consulta
+        DashboardTotals totals = vehicleRepository.findDashboardTotals();
+        Double avgTripMinutes = totals.getAvgTripMinutes();
+        stats.put("totalVehicles", totals.getTotalVehicles());
+        stats.put("avgFuelEfficiency", roundToTwo(totals.getAvgFuelEfficiency()));
+        stats.put("avgTripTime", Math.round(avgTripMinutes != null ? avgTripMinutes : 0));
+        stats.put("vehiclesInMaintenance", totals.getVehiclesNeedingMaintenance());
 
         // datos para grafos historicos
-        stats.put("fuelEfficiencyLast6Months", getFuelEfficiencyLast6Months());
+        stats.put("fuelEfficiencyLast6Months", fleetHistoryService.fuelEfficiencyByMonth(6));
         stats.put("avgTripTimeLastWeek", getAvgTripTimeLastWeek());
-        stats.put("maintenanceLast4Weeks", getMaintenanceLast4Weeks());
+        stats.put("maintenanceLast4Weeks", fleetHistoryService.maintenanceByWeek(4));
 
         return stats;
     }
 
-    private List<Map<String, Object>> getFuelEfficiencyLast6Months() {
-        // harcodeo datos de los ultimos 6 meses basados en la eficiencia actual para
-        // probar
-        Double avgEfficiency = vehicleRepository.findAverageFuelEfficiency();
-        if (avgEfficiency == null)
-            avgEfficiency = 25.0;
-
-        List<Map<String, Object>> data = new ArrayList<>();
-        String[] months = { "Ene", "Feb", "Mar", "Abr", "May", "Jun" };
-        Random random = new Random(42);
-
-        for (String month : months) {
-            Map<String, Object> point = new HashMap<>();
-            point.put("month", month);
-            // variacion del 10% sobre el promedio
-            double variation = avgEfficiency * (0.9 + random.nextDouble() * 0.2);
-            point.put("value", roundToTwo(variation));
-            data.add(point);
+    /**
+     * Distribucion de salud de la flota. Con {@code groupBy} (MARCA o MODELO)
+     * devuelve una fila por grupo; sin el, una sola fila para toda la flota.
+     */
+    public List<FleetHealthDistribution> getFleetHealthDistribution(String groupBy) {
+        // un null en un parametro nativo llega sin tipo a Postgres, por eso "NONE"
+        String grouping = groupBy != null ? groupBy : "NONE";
+        List<FleetHealthDistribution> result = new ArrayList<>();
+        for (HealthDistributionRow row : vehicleRepository.findHealthDistribution(grouping, excellentMin, goodMin, fairMin)) {
+            result.add(new FleetHealthDistribution(row.getGroupKey(), row.getExcellent(), row.getGood(),
+                    row.getFair(), row.getPoor()));
         }
-
-        return data;
+        return result;
     }
 
     private List<Map<String, Object>> getAvgTripTimeLastWeek() {
-        List<Object[]> rawData = travelLogRepository.findAverageTripDurationByDayOfWeek();
-
         // Mapeo de día PostgreSQL (0=Dom, 1=Lun, ..., 6=Sáb) a nombres en español
         String[] dayNames = { "Dom", "Lun", "Mar", "Mié", "Jue", "Vie", "Sáb" };
 
-        // Crear mapa con todos los días inicializados en 0
-        Map<Integer, Long> dayValues = new HashMap<>();
-        for (int i = 0; i < 7; i++) {
-            dayValues.put(i, 0L);
-        }
-
-        // Rellenar con datos reales
-        for (Object[] row : rawData) {
-            if (row[0] != null && row[2] != null) {
-                int dayOfWeek = ((Number) row[0]).intValue();
-                long avgMinutes = ((Number) row[2]).longValue();
-                dayValues.put(dayOfWeek, avgMinutes);
-            }
-        }
+        // promedios desde los rollups diarios; los dias sin viajes quedan en 0
+        Map<Integer, Long> dayValues = tripDurationRollupService.averageMinutesByDayOfWeekLastWeek();
 
         // Construir la lista ordenada empezando por Lunes
         List<Map<String, Object>> data = new ArrayList<>();
@@ -93,26 +93,7 @@ public class DashboardService {
         for (int dayIndex : orderedDays) {
             Map<String, Object> point = new HashMap<>();
             point.put("day", dayNames[dayIndex]);
-            point.put("value", dayValues.get(dayIndex));
-            data.add(point);
-        }
-
-        return data;
-    }
-
-    private List<Map<String, Object>> getMaintenanceLast4Weeks() {
-        long totalInMaintenance = vehicleRepository.countVehiclesNeedingMaintenance();
-
-        List<Map<String, Object>> data = new ArrayList<>();
-        String[] weeks = { "Sem 1", "Sem 2", "Sem 3", "Sem 4" };
-        Random random = new Random(44);
-
-        for (int i = 0; i < weeks.length; i++) {
-            Map<String, Object> point = new HashMap<>();
-            point.put("week", weeks[i]);
-            // tendencia creciente hacia la semana actual
-            long value = (long) (totalInMaintenance * (0.5 + (i * 0.15) + random.nextDouble() * 0.2));
-            point.put("value", value);
+            point.put("value", dayValues.getOrDefault(dayIndex, 0L));
             data.add(point);
         }
 
@@ -0,0 +1,68 @@
+package com.innova.flota.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Ultimo calculo de las estadisticas del dashboard. Se descarta al cumplir
+ * {@code ttl-ms} o cuando alguna escritura lo marca como sucio; en ese caso se
+ * recalcula como maximo una vez cada {@code min-refresh-ms}, para que la
+ * ingesta continua de telemetria no obligue a recalcular en cada request.
+ */
+@Component
+public class DashboardStatsCache {
+
+    private record Snapshot(Map<String, Object> stats, long computedAt) {
+    }
+
+    @Value("${dashboard.cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${dashboard.cache.min-refresh-ms:5000}")
+    private long minRefreshMs;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile boolean dirty;
+
+    public Map<String, Object> get(Supplier<Map<String, Object>> loader) {
+        Snapshot current = snapshot;
+        if (current != null && isUsable(current)) {
+            return current.stats();
+        }
+        // si otro hilo ya esta recalculando se sirve el valor anterior
+        if (current != null && !refreshLock.tryLock()) {
+            return current.stats();
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+        try {
+            current = snapshot;
+            if (current != null && isUsable(current)) {
+                return current.stats();
+            }
+            dirty = false;
+            long startedAt = System.currentTimeMillis();
+            Map<String, Object> stats = Collections.unmodifiableMap(loader.get());
+            snapshot = new Snapshot(stats, startedAt);
+            return stats;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    private boolean isUsable(Snapshot current) {
+        long age = System.currentTimeMillis() - current.computedAt();
+        return age < ttlMs && (!dirty || age < minRefreshMs);
+    }
+}
@@ -0,0 +1,162 @@
+package com.innova.flota.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.innova.flota.model.Users;
+import com.innova.flota.model.Vehicle;
+import com.innova.flota.model.VehicleStatus;
+import com.innova.flota.repositories.UsersRepository;
+import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.repositories.VehicleSpecifications;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Avisos masivos a los conductores: por ejemplo el QR de todos los vehiculos en
+ * PENDING_REVIEW. Solo arma y encola los correos; el envio (una conexion SMTP por
+ * tanda y el limite por minuto del proveedor) lo hace {@link EmailOutboxService}.
+ * La campaña se arma en segundo plano, una pagina de vehiculos por transaccion:
+ * el request vuelve al tiro con el id y el avance se consulta con {@link #progress}.
+ */
+@Service
+public class EmailCampaignService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailCampaignService.class);
+
+    @Value("${qr.bulk.page-size:200}")
+    private int pageSize;
+
+    private final VehicleRepository vehicleRepository;
+    private final UsersRepository usersRepository;
+    private final QrGenerator qrGenerator;
+    private final EmailOutboxService emailOutboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    // una campaña a la vez, las demas esperan en la cola
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("email-campaign-"));
+    // avance de las campañas armadas por esta instancia
+    private final Cache<String, CampaignProgress> progress = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    public EmailCampaignService(VehicleRepository vehicleRepository, UsersRepository usersRepository,
+            QrGenerator qrGenerator, EmailOutboxService emailOutboxService,
+            PlatformTransactionManager transactionManager) {
+        this.vehicleRepository = vehicleRepository;
+        this.usersRepository = usersRepository;
+        this.qrGenerator = qrGenerator;
+        this.emailOutboxService = emailOutboxService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // una campaña cortada a la mitad deja encolado lo de las paginas ya confirmadas
+        builder.shutdownNow();
+        builder.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /** Deja la campaña en cola para armarse en segundo plano y devuelve su id. */
+    public String enqueueQrCampaign(VehicleStatus status, String marca, String modelo,
+            String subject, String message) {
+        String campaign = UUID.randomUUID().toString();
+        Specification<Vehicle> filter = Specification
+                .where(VehicleSpecifications.status(status))
+                .and(VehicleSpecifications.marca(marca))
+                .and(VehicleSpecifications.modelo(modelo));
+        progress.put(campaign, CampaignProgress.STARTED);
+        builder.execute(() -> build(campaign, filter, subject, message));
+        return campaign;
+    }
+
+    /** Avance del armado, o null si la campaña no es de esta instancia o ya expiro. */
+    public CampaignProgress progress(String campaign) {
+        return progress.getIfPresent(campaign);
+    }
+
+    private void build(String campaign, Specification<Vehicle> filter, String subject, String message) {
+        CampaignProgress current = CampaignProgress.STARTED;
+        Long afterId = null;
+        try {
+            while (!current.done()) {
+                Long from = afterId;
+                PageResult page = transactionTemplate.execute(status -> enqueuePage(campaign, filter, from, subject, message));
+                current = new CampaignProgress(current.queued() + page.queued(), current.skipped() + page.skipped(),
+                        page.lastId() == null, null);
+                progress.put(campaign, current);
+                afterId = page.lastId();
+            }
+        } catch (Exception e) {
+            logger.warn("La campaña {} quedo incompleta: {}", campaign, e.getMessage());
+            progress.put(campaign, new CampaignProgress(current.queued(), current.skipped(), true, e.getMessage()));
+        }
+    }
+
+    // una pagina por transaccion: si falla, los correos de las paginas anteriores ya quedaron encolados
+    private PageResult enqueuePage(String campaign, Specification<Vehicle> filter, Long afterId,
+            String subject, String message) {
+        List<Vehicle> page = vehicleRepository.findBy(filter.and(VehicleSpecifications.afterId(afterId)),
+                query -> query.sortBy(VehicleSpecifications.BY_ID).limit(pageSize).all());
+        Map<Long, Users> drivers = driversOf(page);
+
+        int skipped = 0;
+        List<EmailOutboxService.OutgoingEmail> emails = new ArrayList<>(page.size());
+        for (Vehicle vehicle : page) {
+            Users driver = vehicle.getDriver() == null ? null : drivers.get(vehicle.getDriver().getId());
+            QrGenerator.QrImage image;
+            try {
+                image = driver == null || driver.getEmail() == null ? null : qrGenerator.generateQRCodeImage(vehicle);
+            } catch (Exception e) {
+                throw new IllegalStateException("No se pudo generar el QR del vehiculo " + vehicle.getId(), e);
+            }
+            if (image == null) {
+                skipped++;
+                continue;
+            }
+            emails.add(new EmailOutboxService.OutgoingEmail(driver.getEmail(), subject, message, image.png()));
+        }
+        int queued = emails.isEmpty() ? 0 : emailOutboxService.enqueueAll(campaign, emails);
+        Long lastId = page.size() < pageSize ? null : page.get(page.size() - 1).getId();
+        return new PageResult(queued, skipped, lastId);
+    }
+
+    // driver es LAZY: el id sale del proxy y los usuarios se cargan de una vez por pagina
+    private Map<Long, Users> driversOf(List<Vehicle> vehicles) {
+        List<Long> ids = vehicles.stream()
+                .map(Vehicle::getDriver)
+                .filter(Objects::nonNull)
+                .map(Users::getId)
+                .distinct()
+                .toList();
+        return ids.isEmpty() ? Map.of() : usersRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Users::getId, Function.identity()));
+    }
+
+    // lastId null = era la ultima pagina
+    private record PageResult(int queued, int skipped, Long lastId) {
+    }
+
+    public record CampaignProgress(int queued, int skipped, boolean done, String error) {
+        static final CampaignProgress STARTED = new CampaignProgress(0, 0, false, null);
+    }
+}
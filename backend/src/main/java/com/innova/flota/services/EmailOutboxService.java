@@ -0,0 +1,239 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.EmailOutbox;
+import com.innova.flota.repositories.EmailOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outbox de correos. {@link #enqueue} solo guarda la fila, asi la latencia del
+ * SMTP nunca llega al request. Un poll periodico toma los correos vencidos (hasta
+ * los cupos libres del pool, en tandas de batch-size por conexion SMTP), los envia
+ * y reprograma los fallidos con backoff exponencial hasta max-attempts.
+ * Nunca se toman mas correos de los que el limite por minuto alcanza a enviar en
+ * medio lease, asi el lease no vence con correos todavia en la cola del throttle.
+ * El adjunto se borra apenas el correo termina (enviado o descartado) y las filas
+ * terminadas se eliminan despues de retention-days.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    @Value("${email.outbox.concurrency:4}")
+    private int concurrency;
+
+    @Value("${email.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.backoff-base-ms:30000}")
+    private long backoffBaseMs;
+
+    @Value("${email.outbox.backoff-max-ms:3600000}")
+    private long backoffMaxMs;
+
+    @Value("${email.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    // 0 = sin retencion, se guarda todo
+    @Value("${email.outbox.retention-days:30}")
+    private int retentionDays;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private ExecutorService senders;
+    private Semaphore slots;
+    // tomados por esta instancia y todavia sin enviar
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository, EmailService emailService,
+            PlatformTransactionManager transactionManager) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        senders = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("email-outbox-"));
+        slots = new Semaphore(concurrency);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // lo que quede SENDING se retoma cuando vence el lease
+        senders.shutdown();
+        senders.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public Long enqueue(String recipient, String subject, String message, byte[] attachmentPng) {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox email = new EmailOutbox();
+        email.setRecipient(recipient);
+        email.setSubject(subject);
+        email.setMessage(message);
+        email.setAttachmentPng(attachmentPng);
+        email.setCreatedAt(now);
+        email.setNextAttemptAt(now);
+        return emailOutboxRepository.save(email).getId();
+    }
+
+    public Optional<EmailOutbox> find(Long id) {
+        return emailOutboxRepository.findById(id);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int free = slots.availablePermits();
+        int budget = emailService.maxSendsWithin(leaseMs / 2) - inFlight.get();
+        int limit = Math.min(free * batchSize, budget);
+        if (limit <= 0) {
+            return;
+        }
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> claim(limit));
+        inFlight.addAndGet(claimed.size());
+        // cada tanda va por una sola conexion SMTP en un hilo del pool
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<EmailOutbox> chunk = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            slots.acquireUninterruptibly();
+            senders.execute(() -> {
+                try {
+                    sendAll(chunk);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    /** Encola el mismo tipo de correo para varios destinatarios en una sola transaccion. */
+    @Transactional
+    public int enqueueAll(String campaign, List<OutgoingEmail> emails) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> rows = new ArrayList<>(emails.size());
+        for (OutgoingEmail outgoing : emails) {
+            EmailOutbox email = new EmailOutbox();
+            email.setCampaign(campaign);
+            email.setRecipient(outgoing.recipient());
+            email.setSubject(outgoing.subject());
+            email.setMessage(outgoing.message());
+            email.setAttachmentPng(outgoing.attachmentPng());
+            email.setCreatedAt(now);
+            email.setNextAttemptAt(now);
+            rows.add(email);
+        }
+        emailOutboxRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /** Cantidad de correos de la campaña por estado. */
+    public Map<String, Long> campaignStatus(String campaign) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (EmailOutbox.Status status : EmailOutbox.Status.values()) {
+            counts.put(status.name(), 0L);
+        }
+        for (Object[] row : emailOutboxRepository.countByStatus(campaign)) {
+            counts.put(((EmailOutbox.Status) row[0]).name(), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // marca las filas como SENDING con un lease, en la misma transaccion que las bloquea
+    private List<EmailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(now, limit);
+        for (EmailOutbox email : due) {
+            email.setStatus(EmailOutbox.Status.SENDING);
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMs)));
+        }
+        return emailOutboxRepository.saveAll(due);
+    }
+
+    private void sendAll(List<EmailOutbox> chunk) {
+        try (EmailService.SmtpBatch batch = emailService.openBatch()) {
+            for (EmailOutbox email : chunk) {
+                try {
+                    send(batch, email);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void send(EmailService.SmtpBatch batch, EmailOutbox email) {
+        // si el lease vencio igual, otra pasada pudo enviarlo o tomarlo de nuevo
+        if (!emailOutboxRepository.existsClaim(email.getId(), EmailOutbox.Status.SENDING, email.getAttempts())) {
+            logger.warn("Correo {} ya no esta tomado por este envio, se omite", email.getId());
+            return;
+        }
+        try {
+            batch.send(emailService.buildQREmail(email.getRecipient(), email.getAttachmentPng(),
+                    email.getSubject(), email.getMessage()));
+            email.setStatus(EmailOutbox.Status.SENT);
+            email.setSentAt(LocalDateTime.now());
+            email.setLastError(null);
+            email.setAttachmentPng(null);
+        } catch (Exception e) {
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            email.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(EmailOutbox.Status.FAILED);
+                email.setAttachmentPng(null);
+                logger.warn("Correo {} descartado tras {} intentos: {}", email.getId(), email.getAttempts(), error);
+            } else {
+                email.setStatus(EmailOutbox.Status.PENDING);
+                email.setNextAttemptAt(LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoff(email.getAttempts()))));
+            }
+        }
+        emailOutboxRepository.save(email);
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purge() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        int deleted = emailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            logger.info("{} correos terminados eliminados del outbox", deleted);
+        }
+    }
+
+    // base * 2^(intentos-1), con tope
+    private long backoff(int attempts) {
+        long delay = backoffBaseMs << Math.min(attempts - 1, 20);
+        return Math.min(delay, backoffMaxMs);
+    }
+
+    public record OutgoingEmail(String recipient, String subject, String message, byte[] attachmentPng) {
+    }
+}
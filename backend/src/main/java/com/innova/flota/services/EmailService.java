@@ -1,43 +1,30 @@
 package com.innova.flota.services;
 
 import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
-
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
-    }
-
-    public void sendQREmail(String toEmail, byte[] qrCodeBytes, String subject, String message) throws MessagingException {
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-        helper.setTo(toEmail);
-        helper.setSubject(subject);
-        helper.setText(buildEmailBody(message), true);
-        
-        helper.addAttachment("qr-code.png", new ByteArrayResource(qrCodeBytes));
-
-        mailSender.send(mimeMessage);
-    }
-
-    private String buildEmailBody(String customMessage) {
-        return """
+    // la plantilla se parte una sola vez alrededor del mensaje; armar el cuerpo es concatenar
+    private static final String TEMPLATE = """
             <!DOCTYPE html>
             <html>
             <head>
                 <style>
                     body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
                     .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                    .header { background: linear-gradient(135deg, #667eea 0%%, #764ba2 100%%); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
+                    .header { background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
                     .content { background: #f9f9f9; padding: 30px; border-radius: 0 0 10px 10px; }
                     .footer { text-align: center; margin-top: 20px; color: #666; font-size: 12px; }
                     .button { background: #667eea; color: white; padding: 12px 30px; text-decoration: none; border-radius: 5px; display: inline-block; margin-top: 15px; }
@@ -50,7 +37,7 @@ public class EmailService {
                     </div>
                     <div class="content">
                         <p>Estimado/a usuario/a,</p>
-                        <p>%s</p>
+                        <p>{{mensaje}}</p>
                         <p>Adjunto encontrará el código QR solicitado con toda la información necesaria.</p>
                         <p><strong>Importante:</strong> Este código QR es único y contiene información sensible acerca del vehículo. Por favor, no lo comparta con terceros.</p>
                         <p>Si tiene alguna pregunta o necesita asistencia adicional, no dude en contactarnos.</p>
@@ -62,6 +49,117 @@ public class EmailService {
                 </div>
             </body>
             </html>
-            """.formatted(customMessage);
+            """;
+    private static final String PLACEHOLDER = "{{mensaje}}";
+    private static final String BODY_HEAD = TEMPLATE.substring(0, TEMPLATE.indexOf(PLACEHOLDER));
+    private static final String BODY_TAIL = TEMPLATE.substring(TEMPLATE.indexOf(PLACEHOLDER) + PLACEHOLDER.length());
+
+    private final JavaMailSender mailSender;
+    private final int messagesPerConnection;
+    private final long intervalNanos;
+
+    // proximo instante en que se puede enviar, compartido por todos los hilos que envian
+    private long nextSendAt = System.nanoTime();
+
+    public EmailService(JavaMailSender mailSender,
+            @Value("${email.smtp.messages-per-connection:100}") int messagesPerConnection,
+            @Value("${email.smtp.max-per-minute:60}") int maxPerMinute) {
+        this.mailSender = mailSender;
+        this.messagesPerConnection = messagesPerConnection;
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, maxPerMinute);
+    }
+
+    public MimeMessage buildQREmail(String toEmail, byte[] qrCodeBytes, String subject, String message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        helper.setText(buildEmailBody(message), true);
+        
+        helper.addAttachment("qr-code.png", new ByteArrayResource(qrCodeBytes));
+
+        return mimeMessage;
+    }
+
+    /**
+     * Conexion SMTP autenticada para enviar muchos correos seguidos: un solo handshake
+     * TLS por cada messages-per-connection correos. No es thread-safe, una por hilo.
+     */
+    public SmtpBatch openBatch() {
+        return new SmtpBatch();
+    }
+
+    /** Cuantos correos deja pasar el limite por minuto en {@code millis}, entre todos los hilos. */
+    public int maxSendsWithin(long millis) {
+        return (int) Math.max(1, TimeUnit.MILLISECONDS.toNanos(millis) / intervalNanos);
+    }
+
+    String buildEmailBody(String customMessage) {
+        return BODY_HEAD + customMessage + BODY_TAIL;
+    }
+
+    // espacia los envios para no pasar el limite por minuto del proveedor
+    private void throttle() {
+        long slot;
+        synchronized (this) {
+            long now = System.nanoTime();
+            slot = Math.max(now, nextSendAt);
+            nextSendAt = slot + intervalNanos;
+        }
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public class SmtpBatch implements AutoCloseable {
+
+        private Transport transport;
+        private int sentOnConnection;
+
+        private SmtpBatch() {
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            throttle();
+            if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+                // sin acceso a la sesion no hay reutilizacion posible
+                mailSender.send(message);
+                return;
+            }
+            if (transport != null && (sentOnConnection >= messagesPerConnection || !transport.isConnected())) {
+                close();
+            }
+            if (transport == null) {
+                String protocol = sender.getProtocol() != null ? sender.getProtocol() : "smtp";
+                transport = sender.getSession().getTransport(protocol);
+                transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+                sentOnConnection = 0;
+            }
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sentOnConnection++;
+        }
+
+        @Override
+        public void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException ignored) {
+                // la conexion ya estaba caida
+            }
+            transport = null;
+        }
     }
 }
@@ -0,0 +1,125 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.FleetHealthRollup;
+import com.innova.flota.repositories.FleetHealthRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Historico de salud de la flota para los graficos del dashboard. Cada cierto
+ * tiempo se guarda una foto de todos los vehiculos y se suma a los buckets
+ * mensual y semanal, asi los graficos leen unas pocas filas ya agregadas.
+ * Con varias instancias solo una toma la foto de cada intervalo (lock de
+ * Postgres + chequeo de la ultima foto), y las fotos de mas de
+ * {@code snapshot-retention-days} se borran: los buckets ya las tienen sumadas.
+ */
+@Service
+public class FleetHistoryService {
+
+    private static final String[] MONTH_NAMES = {
+            "Ene", "Feb", "Mar", "Abr", "May", "Jun", "Jul", "Ago", "Sep", "Oct", "Nov", "Dic" };
+
+    // clave del advisory lock de la foto periodica
+    private static final long SNAPSHOT_LOCK_KEY = 0x464C5448L;
+
+    @Value("${fleet-history.snapshot-interval-ms:3600000}")
+    private long snapshotIntervalMs;
+
+    // 0 = sin retencion
+    @Value("${fleet-history.snapshot-retention-days:90}")
+    private int snapshotRetentionDays;
+
+    private final FleetHealthRollupRepository fleetHealthRollupRepository;
+    private final DashboardStatsCache dashboardStatsCache;
+
+    public FleetHistoryService(FleetHealthRollupRepository fleetHealthRollupRepository,
+            DashboardStatsCache dashboardStatsCache) {
+        this.fleetHealthRollupRepository = fleetHealthRollupRepository;
+        this.dashboardStatsCache = dashboardStatsCache;
+    }
+
+    @Scheduled(fixedRateString = "${fleet-history.snapshot-interval-ms:3600000}",
+            initialDelayString = "${fleet-history.initial-delay-ms:30000}")
+    @Transactional
+    public void takeSnapshot() {
+        // mismo instante para la foto y para ubicarla en los buckets
+        LocalDateTime takenAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        // otra instancia esta tomando la foto o ya tomo la de este intervalo
+        if (!fleetHealthRollupRepository.tryAdvisoryLock(SNAPSHOT_LOCK_KEY)
+                || fleetHealthRollupRepository.existsSnapshotSince(takenAt.minus(snapshotIntervalMs / 2, ChronoUnit.MILLIS))) {
+            return;
+        }
+        if (snapshotRetentionDays > 0) {
+            fleetHealthRollupRepository.deleteSnapshotsBefore(takenAt.minusDays(snapshotRetentionDays));
+        }
+        fleetHealthRollupRepository.insertSnapshot(takenAt);
+        fleetHealthRollupRepository.addSnapshotToRollup(takenAt, FleetHealthRollup.Granularity.MONTH.name(), "month");
+        fleetHealthRollupRepository.addSnapshotToRollup(takenAt, FleetHealthRollup.Granularity.WEEK.name(), "week");
+        AfterCommit.run(dashboardStatsCache::invalidate);
+    }
+
+    /** Eficiencia promedio por mes, del mas antiguo al actual. */
+    public List<Map<String, Object>> fuelEfficiencyByMonth(int months) {
+        LocalDate current = LocalDate.now().withDayOfMonth(1);
+        LocalDate from = current.minusMonths(months - 1L);
+        Map<LocalDate, FleetHealthRollup> buckets = load(FleetHealthRollup.Granularity.MONTH, from);
+
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (LocalDate month = from; !month.isAfter(current); month = month.plusMonths(1)) {
+            FleetHealthRollup rollup = buckets.get(month);
+            double value = rollup != null && rollup.getFuelEfficiencyCount() > 0
+                    ? rollup.getFuelEfficiencySum() / rollup.getFuelEfficiencyCount()
+                    : 0.0;
+            Map<String, Object> point = new HashMap<>();
+            point.put("month", MONTH_NAMES[month.getMonthValue() - 1]);
+            point.put("value", Math.round(value * 100.0) / 100.0);
+            data.add(point);
+        }
+        return data;
+    }
+
+    /**
+     * Vehiculos que requieren mantenimiento por semana (promedio de las fotos
+     * de la semana), de la mas antigua a la actual.
+     */
+    public List<Map<String, Object>> maintenanceByWeek(int weeks) {
+        LocalDate current = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate from = current.minusWeeks(weeks - 1L);
+        Map<LocalDate, FleetHealthRollup> buckets = load(FleetHealthRollup.Granularity.WEEK, from);
+
+        List<Map<String, Object>> data = new ArrayList<>();
+        int index = 1;
+        for (LocalDate week = from; !week.isAfter(current); week = week.plusWeeks(1)) {
+            FleetHealthRollup rollup = buckets.get(week);
+            long value = rollup != null && rollup.getSnapshotCount() > 0
+                    ? Math.round((double) rollup.getMaintenanceSum() / rollup.getSnapshotCount())
+                    : 0L;
+            Map<String, Object> point = new HashMap<>();
+            point.put("week", "Sem " + index++);
+            point.put("value", value);
+            data.add(point);
+        }
+        return data;
+    }
+
+    private Map<LocalDate, FleetHealthRollup> load(FleetHealthRollup.Granularity granularity, LocalDate from) {
+        Map<LocalDate, FleetHealthRollup> buckets = new HashMap<>();
+        for (FleetHealthRollup rollup : fleetHealthRollupRepository
+                .findByGranularityAndBucketStartGreaterThanEqualOrderByBucketStart(granularity, from)) {
+            buckets.put(rollup.getBucketStart(), rollup);
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,101 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.TravelLog;
+import com.innova.flota.model.VehiclePosition;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ultima posicion por vehiculo, en memoria. Lo alimenta la ruta de ingesta
+ * (mutaciones y stream de trackers) y lo leen las suscripciones, asi los mapas
+ * no consultan travel_log.
+ */
+@Service
+public class LivePositionStore {
+
+    private final ConcurrentHashMap<Long, VehiclePosition> positions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public void update(TravelLog log) {
+        if (log.getVehicleId() == null) {
+            return;
+        }
+        VehiclePosition candidate = new VehiclePosition(
+                log.getVehicleId(),
+                log.getEndLatitude(),
+                log.getEndLongitude(),
+                log.getAvgSpeed(),
+                log.getState(),
+                log.getCreatedAt(),
+                sequence.incrementAndGet());
+        // si llegan fuera de orden se conserva la mas reciente
+        positions.merge(log.getVehicleId(), candidate, LivePositionStore::newest);
+    }
+
+    public void updateAll(Collection<TravelLog> logs) {
+        for (TravelLog log : logs) {
+            update(log);
+        }
+    }
+
+    public VehiclePosition get(Long vehicleId) {
+        return positions.get(vehicleId);
+    }
+
+    /**
+     * Emite cada {@code interval} las posiciones que cambiaron desde la ultima
+     * emision a ese suscriptor. Si un vehiculo se movio varias veces en el
+     * intervalo solo se envia la ultima posicion.
+     */
+    public Flux<List<VehiclePosition>> updates(Collection<Long> vehicleIds, Duration interval) {
+        return Flux.defer(() -> {
+            Map<Long, Long> lastSent = new HashMap<>();
+            return Flux.interval(Duration.ZERO, interval)
+                    .onBackpressureDrop()
+                    .map(tick -> changedSince(lastSent, vehicleIds))
+                    .filter(changed -> !changed.isEmpty());
+        });
+    }
+
+    private List<VehiclePosition> changedSince(Map<Long, Long> lastSent, Collection<Long> vehicleIds) {
+        List<VehiclePosition> changed = new ArrayList<>();
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            for (VehiclePosition position : positions.values()) {
+                collectIfChanged(position, lastSent, changed);
+            }
+        } else {
+            for (Long vehicleId : vehicleIds) {
+                VehiclePosition position = positions.get(vehicleId);
+                if (position != null) {
+                    collectIfChanged(position, lastSent, changed);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static void collectIfChanged(VehiclePosition position, Map<Long, Long> lastSent,
+            List<VehiclePosition> changed) {
+        Long previous = lastSent.put(position.vehicleId(), position.sequence());
+        if (previous == null || previous != position.sequence()) {
+            changed.add(position);
+        }
+    }
+
+    private static VehiclePosition newest(VehiclePosition current, VehiclePosition candidate) {
+        if (current.recordedAt() != null && candidate.recordedAt() != null
+                && candidate.recordedAt().isBefore(current.recordedAt())) {
+            return current;
+        }
+        return candidate;
+    }
+}
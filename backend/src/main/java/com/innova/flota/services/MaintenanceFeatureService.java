@@ -0,0 +1,65 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.MaintenanceFeatures;
+import com.innova.flota.model.Vehicle;
+import com.innova.flota.repositories.TravelLogRepository;
+import com.innova.flota.repositories.TripAverages;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arma la entrada del modelo de mantenimiento a partir del vehiculo y de sus viajes
+ * recientes. Los promedios de travel_log salen de una sola consulta agrupada por lote.
+ */
+@Service
+public class MaintenanceFeatureService {
+
+    @Value("${ml.features.trip-window-days:30}")
+    private int tripWindowDays;
+
+    private final TravelLogRepository travelLogRepository;
+
+    public MaintenanceFeatureService(TravelLogRepository travelLogRepository) {
+        this.travelLogRepository = travelLogRepository;
+    }
+
+    /** Features por id de vehiculo, en el mismo orden de la lista. */
+    public Map<Long, MaintenanceFeatures> featuresFor(List<Vehicle> vehicles) {
+        Map<Long, MaintenanceFeatures> features = new LinkedHashMap<>();
+        if (vehicles.isEmpty()) {
+            return features;
+        }
+
+        Map<Long, TripAverages> averages = new HashMap<>();
+        List<Long> ids = vehicles.stream().map(Vehicle::getId).toList();
+        for (TripAverages row : travelLogRepository.findTripAverages(ids, LocalDateTime.now().minusDays(tripWindowDays))) {
+            averages.put(row.getVehicleId(), row);
+        }
+
+        int currentYear = Year.now().getValue();
+        for (Vehicle vehicle : vehicles) {
+            TripAverages trips = averages.get(vehicle.getId());
+            features.put(vehicle.getId(), new MaintenanceFeatures(
+                    vehicle.getKmRecorrido(),
+                    vehicle.getYear() == null ? 0 : Math.max(0, currentYear - vehicle.getYear()),
+                    orZero(vehicle.getFuelEfficiency()),
+                    orZero(vehicle.getBatteryHealth()),
+                    orZero(vehicle.getEngineHealth()),
+                    trips == null ? 0 : orZero(trips.getAvgSpeed()),
+                    trips == null ? 0 : orZero(trips.getAvgAcceleration()),
+                    orZero(vehicle.getOdometerReading())));
+        }
+        return features;
+    }
+
+    private static double orZero(Double value) {
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,154 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.MaintenanceFeatures;
+import com.innova.flota.model.MaintenancePredict;
+import com.innova.flota.model.MaintenancePrediction;
+import com.innova.flota.model.Vehicle;
+import com.innova.flota.repositories.MaintenancePredictBatchRepository;
+import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.repositories.VehicleSpecifications;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Barrido periodico de predicciones de mantenimiento para toda la flota. Lee los
+ * vehiculos por paginas, arma las features de cada pagina, la manda al modelo en un
+ * pool acotado y hace upsert de los resultados en maintenance_predict. Asi el
+ * dashboard lee predicciones ya calculadas en vez de llamar al modelo.
+ */
+@Service
+public class MaintenancePredictionSweep {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenancePredictionSweep.class);
+
+    @Value("${ml.sweep.chunk-size:256}")
+    private int chunkSize;
+
+    @Value("${ml.sweep.concurrency:2}")
+    private int concurrency;
+
+    private final VehicleRepository vehicleRepository;
+    private final MaintenanceFeatureService maintenanceFeatureService;
+    private final PredictionService predictionService;
+    private final MaintenancePredictBatchRepository maintenancePredictBatchRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ExecutorService scorers;
+
+    public MaintenancePredictionSweep(VehicleRepository vehicleRepository,
+            MaintenanceFeatureService maintenanceFeatureService, PredictionService predictionService,
+            MaintenancePredictBatchRepository maintenancePredictBatchRepository) {
+        this.vehicleRepository = vehicleRepository;
+        this.maintenanceFeatureService = maintenanceFeatureService;
+        this.predictionService = predictionService;
+        this.maintenancePredictBatchRepository = maintenancePredictBatchRepository;
+    }
+
+    @PostConstruct
+    void start() {
+        scorers = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("ml-sweep-"));
+    }
+
+    @PreDestroy
+    void stop() {
+        scorers.shutdownNow();
+    }
+
+    @Scheduled(fixedDelayString = "${ml.sweep.interval-ms:21600000}",
+            initialDelayString = "${ml.sweep.initial-delay-ms:60000}")
+    public void sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int scored = run();
+            logger.info("Barrido de mantenimiento: {} vehiculos", scored);
+        } catch (PredictionService.MlServiceException e) {
+            // el breaker o el servicio cortaron el barrido; el proximo vuelve a empezar
+            logger.warn("Barrido de mantenimiento interrumpido: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int run() {
+        // como mucho "concurrency" paginas en el modelo y otra mas preparandose
+        Deque<Future<Integer>> inFlight = new ArrayDeque<>();
+        int scored = 0;
+        try {
+            Long afterId = null;
+            while (true) {
+                List<Vehicle> page = vehicleRepository.findBy(VehicleSpecifications.afterId(afterId),
+                        query -> query.sortBy(VehicleSpecifications.BY_ID).limit(chunkSize).all());
+                if (!page.isEmpty()) {
+                    Map<Long, MaintenanceFeatures> features = maintenanceFeatureService.featuresFor(page);
+                    inFlight.add(scorers.submit(() -> scoreAndStore(features)));
+                    if (inFlight.size() >= concurrency) {
+                        scored += await(inFlight.poll());
+                    }
+                }
+                if (page.size() < chunkSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+            while (!inFlight.isEmpty()) {
+                scored += await(inFlight.poll());
+            }
+            return scored;
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private int scoreAndStore(Map<Long, MaintenanceFeatures> features) {
+        Map<Long, MaintenancePrediction> results = predictionService.predictVehicles(features);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MaintenancePredict> rows = new ArrayList<>(results.size());
+        for (Map.Entry<Long, MaintenancePrediction> scored : results.entrySet()) {
+            MaintenancePrediction result = scored.getValue();
+            MaintenancePredict row = new MaintenancePredict();
+            row.setCarId(scored.getKey());
+            row.setNeedsMaintenance(result.needsMaintenance());
+            // sin probabilidad del modelo queda la clase como 0/1
+            double confidence = result.probability() != null ? result.probability() : (result.needsMaintenance() ? 1 : 0);
+            row.setConfidenceScore((float) confidence);
+            row.setPredicted(now);
+            rows.add(row);
+        }
+        return maintenancePredictBatchRepository.upsertAll(rows, chunkSize);
+    }
+
+    private static int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PredictionService.MlServiceException("Barrido interrumpido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
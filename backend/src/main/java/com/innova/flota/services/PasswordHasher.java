@@ -0,0 +1,118 @@
+package com.innova.flota.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt en un pool propio y acotado. Login y registro no queman hilos del servlet
+ * ni compiten con telemetria o dashboard: como mucho {@code threads} hashes en
+ * paralelo y {@code queue-capacity} esperando; lo que no entra se rechaza al tiro con
+ * {@link BusyException} en vez de encolarse sin limite. Un hash que vence el timeout
+ * esperando en la cola se cancela y no llega a ejecutarse.
+ */
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    // hash de referencia para comparar cuando el usuario no existe (mismo costo que uno real)
+    private final String dummyHash;
+
+    private final Timer hashTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+            @Value("${auth.bcrypt.strength:10}") int strength,
+            @Value("${auth.hash.threads:0}") int threads,
+            @Value("${auth.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.hash.timeout-ms:5000}") long timeoutMs) {
+        // por defecto la mitad de los nucleos, para dejar CPU al resto de la app
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("auth-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.dummyHash = encoder.encode("dummy-password");
+
+        this.hashTimer = Timer.builder("auth.hash").register(meterRegistry);
+        this.rejected = Counter.builder("auth.hash.rejected").description("hashes rechazados por cola llena")
+                .register(meterRegistry);
+        Gauge.builder("auth.hash.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /** Con hash null compara contra un hash de relleno, para que un email inexistente tarde lo mismo. */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (encodedPassword == null) {
+                encoder.matches(rawPassword, dummyHash);
+                return false;
+            }
+            return encoder.matches(rawPassword, encodedPassword);
+        });
+    }
+
+    public int poolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable hash = () -> {
+            // vencio esperando en la cola: el llamador ya recibio el timeout, no se gasta CPU
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(hashTimer.record(task));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(hash);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new BusyException());
+        }
+        // un hash que ya empezo no se puede cortar, pero si sigue en la cola se saca y libera el cupo
+        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error instanceof TimeoutException) {
+                executor.remove(hash);
+            }
+        });
+        return result;
+    }
+
+    /** El pool de hashing esta lleno; el cliente deberia reintentar en unos segundos. */
+    public static class BusyException extends RuntimeException {
+        public BusyException() {
+            super("Demasiados inicios de sesion en curso, intenta de nuevo en unos segundos");
+        }
+    }
+}
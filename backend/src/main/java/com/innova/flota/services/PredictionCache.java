@@ -0,0 +1,70 @@
+package com.innova.flota.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.innova.flota.model.MaintenanceFeatures;
+import com.innova.flota.model.MaintenancePrediction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Ultima prediccion de cada vehiculo junto con las features con que se calculo.
+ * Solo es un hit si las features actuales son identicas, asi que un cambio en
+ * cualquier entrada fuerza a recalcular aunque nadie haya invalidado. Las escrituras
+ * de vehiculos y viajes igual invalidan para no guardar entradas que ya no sirven.
+ * Hits y misses salen en /actuator/metrics como cache.gets{cache=ml.predictions}.
+ */
+@Component
+public class PredictionCache {
+
+    private record Entry(MaintenanceFeatures features, MaintenancePrediction prediction) {
+    }
+
+    private final Cache<Long, Entry> cache;
+    private final ConcurrentStatsCounter stats = new ConcurrentStatsCounter();
+
+    public PredictionCache(MeterRegistry meterRegistry,
+            @Value("${ml.prediction-cache.max-entries:50000}") long maxEntries,
+            @Value("${ml.prediction-cache.ttl-ms:86400000}") long ttlMs) {
+        // el TTL cubre cambios de modelo o de ventana de viajes que no pasan por una escritura
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats(() -> stats)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ml.predictions");
+    }
+
+    /** Prediccion guardada si se calculo con estas mismas features, si no null. */
+    public MaintenancePrediction get(Long vehicleId, MaintenanceFeatures features) {
+        // asMap() no registra estadisticas: se cuentan aca para que una entrada
+        // con features viejas sea un miss y no un hit
+        Entry entry = cache.asMap().get(vehicleId);
+        if (entry != null && entry.features().equals(features)) {
+            stats.recordHits(1);
+            return entry.prediction();
+        }
+        stats.recordMisses(1);
+        return null;
+    }
+
+    public void put(Long vehicleId, MaintenanceFeatures features, MaintenancePrediction prediction) {
+        cache.put(vehicleId, new Entry(features, prediction));
+    }
+
+    public void invalidate(Long vehicleId) {
+        if (vehicleId != null) {
+            cache.invalidate(vehicleId);
+        }
+    }
+
+    public void invalidateAll(Collection<Long> vehicleIds) {
+        cache.invalidateAll(vehicleIds);
+    }
+}
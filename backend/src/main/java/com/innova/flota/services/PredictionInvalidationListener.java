@@ -0,0 +1,35 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.TravelLog;
+import com.innova.flota.model.Vehicle;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA de las entidades que son entrada del modelo de mantenimiento
+ * (vehiculo y sus viajes): descarta la prediccion guardada de ese vehiculo.
+ * Despues del commit, igual que DashboardInvalidationListener: antes, otra lectura
+ * podria volver a guardar la prediccion con los datos viejos.
+ */
+public class PredictionInvalidationListener {
+
+    private final PredictionCache predictionCache;
+
+    public PredictionInvalidationListener(PredictionCache predictionCache) {
+        this.predictionCache = predictionCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        if (entity instanceof Vehicle vehicle) {
+            Long vehicleId = vehicle.getId();
+            AfterCommit.run(() -> predictionCache.invalidate(vehicleId));
+        } else if (entity instanceof TravelLog log) {
+            Long vehicleId = log.getVehicleId();
+            AfterCommit.run(() -> predictionCache.invalidate(vehicleId));
+        }
+    }
+}
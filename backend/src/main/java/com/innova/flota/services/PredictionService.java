@@ -1,44 +1,202 @@
 package com.innova.flota.services;
 
-import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innova.flota.model.MaintenanceFeatures;
+import com.innova.flota.model.MaintenancePrediction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
-import java.util.Map;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
 
-import org.springframework.beans.factory.annotation.Value;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
+/**
+ * Cliente de la API de ML. Usa un solo HttpClient (conexiones keep-alive reutilizadas)
+ * con timeouts de conexion y lectura, manda los vehiculos en lotes a /predict/batch
+ * y corta las llamadas con un circuit breaker cuando el servicio esta caido.
+ * Con ml.engine=local el modelo exportado se evalua en la JVM y la API de Python
+ * queda solo como alternativa. Por defecto sigue remote: el JSON del modelo todavia
+ * no se valido contra predicciones hechas por scikit-learn.
+ */
 @Service
 public class PredictionService {
 
-    @Value("${ml.api.url:http://localhost:8000/predict}")
-    private String mlApiUrl;
+    private static final Logger logger = LoggerFactory.getLogger(PredictionService.class);
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestClient restClient;
+    private final String mlApiUrl;
+    private final int batchSize;
+    private final CircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final RandomForestModel localModel;
+    private final PredictionCache predictionCache;
 
-    public boolean predictMaintenance(Map<String, Object> vehicleData) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    private final Timer batchTimer;
+    private final Timer localTimer;
+    private final Counter failures;
+    private final Counter rejected;
+    private final Counter predictions;
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(vehicleData, headers);
+    public PredictionService(RestClient.Builder restClientBuilder, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            PredictionCache predictionCache,
+            @Value("${ml.engine:remote}") String engine,
+            @Value("${ml.model.location:classpath:ml/maintenance_model.json}") Resource modelLocation,
+            @Value("${ml.api.url:http://localhost:8000/predict}") String mlApiUrl,
+            @Value("${ml.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${ml.client.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${ml.client.batch-size:256}") int batchSize,
+            @Value("${ml.client.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${ml.client.breaker.open-ms:30000}") long openMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
 
-            Map<String, Object> response = restTemplate.postForObject(mlApiUrl, request, Map.class);
+        this.restClient = restClientBuilder.requestFactory(requestFactory).build();
+        this.mlApiUrl = mlApiUrl;
+        this.batchSize = batchSize;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+        this.objectMapper = objectMapper;
+        this.predictionCache = predictionCache;
+        this.localModel = "local".equalsIgnoreCase(engine) ? loadModel(modelLocation) : null;
+
+        this.batchTimer = Timer.builder("ml.client.requests").tag("endpoint", "predict-batch").register(meterRegistry);
+        this.localTimer = Timer.builder("ml.local.inference").description("lotes evaluados con el modelo en la JVM")
+                .register(meterRegistry);
+        this.failures = Counter.builder("ml.client.failures").register(meterRegistry);
+        this.rejected = Counter.builder("ml.client.rejected").description("llamadas cortadas por el circuit breaker")
+                .register(meterRegistry);
+        this.predictions = Counter.builder("ml.client.predictions").register(meterRegistry);
+        Gauge.builder("ml.client.circuit.open", circuitBreaker, breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
 
-            if (response != null && response.containsKey("needs_maintenance")) {
-                Object result = response.get("needs_maintenance");
-                if (result instanceof Boolean) {
-                    return (Boolean) result;
-                }
-                if (result instanceof Integer) {
-                    return ((Integer) result) == 1;
-                }
+    /**
+     * Predicciones para varios vehiculos, en el mismo orden. Se parten en lotes de
+     * ml.client.batch-size por request. Lanza {@link MlServiceException} si algun lote falla.
+     */
+    public List<MaintenancePrediction> predictBatch(List<MaintenanceFeatures> features) {
+        if (localModel != null) {
+            return localTimer.record(() -> predictLocal(features));
+        }
+        List<MaintenancePrediction> results = new ArrayList<>(features.size());
+        for (int from = 0; from < features.size(); from += batchSize) {
+            List<MaintenanceFeatures> chunk = features.subList(from, Math.min(from + batchSize, features.size()));
+            BatchResponse response = call(batchTimer, () -> restClient.post()
+                    .uri(mlApiUrl + "/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new BatchRequest(chunk))
+                    .retrieve()
+                    .body(BatchResponse.class));
+            if (response == null || response.predictions() == null || response.predictions().size() != chunk.size()) {
+                throw new MlServiceException("Respuesta incompleta de /predict/batch", null);
+            }
+            predictions.increment(chunk.size());
+            results.addAll(response.predictions());
+        }
+        return results;
+    }
+
+    /**
+     * Predicciones por id de vehiculo, en el orden del mapa. Solo se mandan al modelo
+     * los vehiculos cuyas features cambiaron desde la ultima prediccion guardada.
+     */
+    public Map<Long, MaintenancePrediction> predictVehicles(Map<Long, MaintenanceFeatures> features) {
+        Map<Long, MaintenancePrediction> results = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        List<MaintenanceFeatures> missing = new ArrayList<>();
+        features.forEach((vehicleId, row) -> {
+            MaintenancePrediction cached = predictionCache.get(vehicleId, row);
+            results.put(vehicleId, cached);
+            if (cached == null) {
+                missingIds.add(vehicleId);
+                missing.add(row);
+            }
+        });
+        if (!missing.isEmpty()) {
+            List<MaintenancePrediction> scored = predictBatch(missing);
+            for (int i = 0; i < missingIds.size(); i++) {
+                predictionCache.put(missingIds.get(i), missing.get(i), scored.get(i));
+                results.put(missingIds.get(i), scored.get(i));
             }
+        }
+        return results;
+    }
 
-        } catch (Exception e) {
-            System.err.println("Error calling ML service: " + e.getMessage());
+    private List<MaintenancePrediction> predictLocal(List<MaintenanceFeatures> features) {
+        List<MaintenancePrediction> results = new ArrayList<>(features.size());
+        for (MaintenanceFeatures row : features) {
+            double[] proba = localModel.probabilities(row.toArray());
+            results.add(new MaintenancePrediction(proba[1] > proba[0], proba[1]));
         }
-        return false;
+        predictions.increment(features.size());
+        return results;
+    }
+
+    private RandomForestModel loadModel(Resource location) {
+        try (InputStream in = location.getInputStream()) {
+            RandomForestModel model = RandomForestModel.read(in, objectMapper);
+            logger.info("Modelo de mantenimiento local cargado desde {}", location.getDescription());
+            return model;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar el modelo de " + location.getDescription(), e);
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private <T> T call(Timer timer, Supplier<T> request) {
+        if (!circuitBreaker.allowRequest()) {
+            rejected.increment();
+            throw new MlServiceException("ML service no disponible (circuit breaker abierto)", null);
+        }
+        try {
+            T result = timer.record(request);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (HttpClientErrorException e) {
+            // 4xx: el servicio responde, el problema es el request; no cuenta para el breaker
+            circuitBreaker.onSuccess();
+            failures.increment();
+            throw new MlServiceException("Request rechazado por el ML service: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failures.increment();
+            throw new MlServiceException("Error llamando al ML service: " + e.getMessage(), e);
+        }
+    }
+
+    public static class MlServiceException extends RuntimeException {
+        public MlServiceException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    record BatchRequest(List<MaintenanceFeatures> vehicles) {
+    }
+
+    record BatchResponse(List<MaintenancePrediction> predictions) {
     }
 }
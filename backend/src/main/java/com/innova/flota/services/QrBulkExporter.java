@@ -0,0 +1,146 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.Vehicle;
+import com.innova.flota.model.VehicleStatus;
+import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.repositories.VehicleSpecifications;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exporta los QR de un grupo de vehiculos como ZIP. Los vehiculos se leen por paginas
+ * (keyset por id), los PNG se generan en un pool acotado y se escriben en orden a medida
+ * que terminan; nunca hay mas de unas pocas imagenes en memoria.
+ */
+@Service
+public class QrBulkExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QrBulkExporter.class);
+
+    @Value("${qr.bulk.threads:4}")
+    private int threads;
+
+    @Value("${qr.bulk.page-size:200}")
+    private int pageSize;
+
+    private final VehicleRepository vehicleRepository;
+    private final QrGenerator qrGenerator;
+
+    private ThreadPoolExecutor pool;
+
+    public QrBulkExporter(VehicleRepository vehicleRepository, QrGenerator qrGenerator) {
+        this.vehicleRepository = vehicleRepository;
+        this.qrGenerator = qrGenerator;
+    }
+
+    @PostConstruct
+    void start() {
+        // cola chica + CallerRunsPolicy: si el pool esta lleno el hilo que escribe el ZIP
+        // renderiza el mismo, asi varios exports a la vez no acumulan trabajo sin limite
+        pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), new CustomizableThreadFactory("qr-bulk-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    public void writeZip(VehicleStatus status, String marca, String modelo, OutputStream out) throws IOException {
+        Specification<Vehicle> filter = Specification
+                .where(VehicleSpecifications.status(status))
+                .and(VehicleSpecifications.marca(marca))
+                .and(VehicleSpecifications.modelo(modelo));
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<Future<Entry>> inFlight = new ArrayDeque<>();
+        int window = threads * 2;
+        int written = 0;
+        try {
+            Long afterId = null;
+            while (true) {
+                List<Vehicle> page = vehicleRepository.findBy(filter.and(VehicleSpecifications.afterId(afterId)),
+                        query -> query.sortBy(VehicleSpecifications.BY_ID).limit(pageSize).all());
+                for (Vehicle vehicle : page) {
+                    inFlight.add(pool.submit(() -> render(vehicle)));
+                    if (inFlight.size() >= window) {
+                        written += writeEntry(zip, inFlight.poll());
+                    }
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+            while (!inFlight.isEmpty()) {
+                written += writeEntry(zip, inFlight.poll());
+            }
+            zip.finish();
+            logger.info("Export de QR: {} imagenes", written);
+        } finally {
+            // si el cliente corto la descarga no seguimos renderizando
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private Entry render(Vehicle vehicle) throws Exception {
+        QrGenerator.QrImage image = qrGenerator.generateQRCodeImage(vehicle);
+        if (image == null) {
+            return null;
+        }
+        String patente = vehicle.getPatente() == null ? "" : vehicle.getPatente().replaceAll("[^A-Za-z0-9-]", "");
+        return new Entry("qr-" + vehicle.getId() + (patente.isEmpty() ? "" : "-" + patente) + ".png", image.png());
+    }
+
+    // los PNG ya vienen comprimidos: se guardan STORED, sin volver a pasar por deflate
+    private static int writeEntry(ZipOutputStream zip, Future<Entry> future) throws IOException {
+        Entry entry;
+        try {
+            entry = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export de QR interrumpido", e);
+        } catch (ExecutionException e) {
+            throw new IOException("No se pudo generar un QR", e.getCause());
+        }
+        if (entry == null) {
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(entry.png());
+        ZipEntry zipEntry = new ZipEntry(entry.name());
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(entry.png().length);
+        zipEntry.setCompressedSize(entry.png().length);
+        zipEntry.setCrc(crc.getValue());
+        zip.putNextEntry(zipEntry);
+        zip.write(entry.png());
+        zip.closeEntry();
+        return 1;
+    }
+
+    private record Entry(String name, byte[] png) {
+    }
+}
@@ -1,18 +1,21 @@
 package com.innova.flota.services;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.innova.flota.model.QRCode;
 import com.innova.flota.model.Vehicle;
 import com.innova.flota.repositories.QRCodeRepository;
 import com.innova.flota.repositories.VehicleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
 
 @Service
@@ -20,68 +23,165 @@ public class QrGenerator {
     private final VehicleRepository vehicleRepository;
     private final QRCodeRepository qrCodeRepository;
 
-    public QrGenerator(VehicleRepository vehicleRepository, QRCodeRepository qrCodeRepository) {
+    private final ObjectMapper objectMapper;
+    private final QrTokenCodec qrTokenCodec;
+
+    private final Cache<Long, QrImage> pngCache;
+    private final boolean legacyNumericIds;
+
+    public QrGenerator(VehicleRepository vehicleRepository, QRCodeRepository qrCodeRepository,
+            ObjectMapper objectMapper, QrTokenCodec qrTokenCodec,
+            @Value("${qr.cache.max-entries:2000}") long maxCachedImages,
+            @Value("${qr.legacy-numeric-ids.enabled:false}") boolean legacyNumericIds) {
         this.vehicleRepository = vehicleRepository;
         this.qrCodeRepository = qrCodeRepository;
+        this.objectMapper = objectMapper;
+        this.qrTokenCodec = qrTokenCodec;
+        this.pngCache = Caffeine.newBuilder().maximumSize(maxCachedImages).build();
+        this.legacyNumericIds = legacyNumericIds;
     }
 
-    public BufferedImage generateQRCodeImage(Long id) throws Exception {
-        QRCodeWriter barcodeWriter = new QRCodeWriter();
+    /**
+     * Emite (o reutiliza) el QR del vehiculo. El codigo impreso lleva solo el token, asi que
+     * se identifica por lo que codifica: vehiculo + version del token. Cambios de km o de
+     * estado no emiten un sticker nuevo; resolve() devuelve siempre los datos al dia.
+     */
+    public QrImage generateQRCodeImage(Long id) throws Exception {
         Optional<Vehicle> vehicleOptional = vehicleRepository.findById(id);
 
         if (vehicleOptional.isEmpty()) {
             return null;
         }
-        Vehicle vehicle = vehicleOptional.get();
+        return generateQRCodeImage(vehicleOptional.get());
+    }
 
-        // guardar QR antes de generar la imagen
-        QRCode qrCode = new QRCode();
-        qrCodeRepository.save(qrCode);
+    // version para cuando el vehiculo ya esta cargado (ej. export masivo)
+    public QrImage generateQRCodeImage(Vehicle vehicle) throws Exception {
+        String key = issueKey(vehicle.getId());
 
-        // construccion logica del QR
-        ObjectMapper mapper = new ObjectMapper();
-        ObjectNode jsonNode = mapper.valueToTree(vehicle);
+        Optional<QRCode> existing = qrCodeRepository.findByPayloadHash(key);
+        if (existing.isPresent()) {
+            return getQrCodePng(existing.get().getId());
+        }
+        return issue(vehicle.getId(), key);
+    }
 
-        jsonNode.put("id_qr", String.valueOf(qrCode.getId()));
+    // primera emision para la clave: se reutiliza el ultimo QR del vehiculo (de cuando la clave
+    // incluia km y estado) y si no hay, insert para obtener el id y despues el token con ese id.
+    // Si se pierde la carrera o el proceso muere entre las dos escrituras, getQrCodePng deriva
+    // el token del id
+    private QrImage issue(Long vehicleId, String key) throws Exception {
+        QRCode qrCode = qrCodeRepository.findFirstByVehicleIdOrderByIdDesc(vehicleId).orElseGet(QRCode::new);
+        qrCode.setVehicleId(vehicleId);
+        qrCode.setPayloadHash(key);
+        try {
+            qrCode = qrCodeRepository.saveAndFlush(qrCode);
+        } catch (DataIntegrityViolationException e) {
+            // otra request emitio el QR del vehiculo al mismo tiempo, usamos ese
+            QRCode winner = qrCodeRepository.findByPayloadHash(key).orElseThrow(() -> e);
+            return getQrCodePng(winner.getId());
+        }
 
-        // añadir QR id al JSON
-        if (jsonNode.has("id")) {
-            jsonNode.put("id_vehicle", jsonNode.get("id").asText());
-            jsonNode.remove("id");
+        // el QR lleva solo el token firmado; los datos se resuelven con /api/qr/resolve
+        String finalBarcodeText = qrTokenCodec.encode(qrCode.getId());
+        if (!finalBarcodeText.equals(qrCode.getBarcodeText())) {
+            qrCode.setBarcodeText(finalBarcodeText);
+            qrCodeRepository.save(qrCode);
         }
 
-        jsonNode.remove("driver");
-        jsonNode.remove("fuelEfficiency");
-        jsonNode.remove("batteryHealth");
-        jsonNode.remove("engineHealth");
-        jsonNode.remove("odometerReading");
-
-        String finalBarcodeText = mapper.writeValueAsString(jsonNode);
-        qrCode.setBarcodeText(finalBarcodeText);
-        qrCodeRepository.save(qrCode);
-
-        int size = 400;
-
-        BitMatrix bitMatrix = barcodeWriter.encode(
-                finalBarcodeText,
-                BarcodeFormat.QR_CODE,
-                size,
-                size
-        );
-        return MatrixToImageWriter.toBufferedImage(bitMatrix);
+        return cache(qrCode.getId(), finalBarcodeText);
+    }
+
+    // lo que identifica al codigo impreso: version del token + vehiculo
+    private static String issueKey(Long vehicleId) throws NoSuchAlgorithmException {
+        return sha256Hex(QrTokenCodec.PREFIX + vehicleId);
     }
 
-    public BufferedImage getQrCode(Long id) throws Exception {
-        QRCodeWriter barcodeWriter = new QRCodeWriter();
+    /**
+     * Datos del vehiculo para lo que escaneo el taller (token o id del QR),
+     * o null si el codigo no es valido, no existe o ya no es el QR vigente del vehiculo.
+     */
+    public ObjectNode resolve(String scanned) {
+        Long qrId = qrTokenCodec.decode(scanned);
+        Optional<QRCode> qrCode = qrId == null ? Optional.empty() : qrCodeRepository.findById(qrId).filter(this::isCurrent);
+        if (qrCode.isEmpty()) {
+            return null;
+        }
+        return vehicleRepository.findById(qrCode.get().getVehicleId())
+                .map(vehicle -> payloadFor(vehicle).put("id_qr", String.valueOf(qrCode.get().getId())))
+                .orElse(null);
+    }
 
-        if (qrCodeRepository.findById(id).isPresent()) {
-            QRCode qrCode = qrCodeRepository.findById(id).get();
-            String barcodeText = qrCode.getBarcodeText();
-            BitMatrix bitMatrix = barcodeWriter.encode(barcodeText, BarcodeFormat.QR_CODE, 400, 400);
-            return MatrixToImageWriter.toBufferedImage(bitMatrix);
+    /**
+     * QR a partir del token escaneado. El id numerico sin firma solo se acepta con
+     * qr.legacy-numeric-ids.enabled=true (apagado por defecto; se elimina el 2027-01-31).
+     */
+    public Optional<QRCode> findScanned(String scanned) {
+        Long qrId = legacyNumericIds && scanned != null && scanned.trim().matches("\\d{1,18}")
+                ? Long.valueOf(scanned.trim())
+                : qrTokenCodec.decode(scanned);
+        return qrId == null ? Optional.empty() : qrCodeRepository.findById(qrId).filter(this::isCurrent);
+    }
+
+    // solo vale el ultimo QR del vehiculo: los stickers que se emitian con cada cambio de km
+    // o de estado quedan sin efecto
+    private boolean isCurrent(QRCode qrCode) {
+        return qrCode.getVehicleId() != null && qrCodeRepository.findFirstByVehicleIdOrderByIdDesc(qrCode.getVehicleId())
+                .map(latest -> latest.getId().equals(qrCode.getId()))
+                .orElse(false);
+    }
 
-        } else {
+    // datos del vehiculo que ve el taller al escanear; nada de driver ni de los indicadores de salud
+    private ObjectNode payloadFor(Vehicle vehicle) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id_vehicle", String.valueOf(vehicle.getId()));
+        node.put("patente", vehicle.getPatente());
+        node.put("marca", vehicle.getMarca());
+        node.put("modelo", vehicle.getModelo());
+        node.put("kmRecorrido", vehicle.getKmRecorrido());
+        node.put("year", vehicle.getYear());
+        node.put("status", vehicle.getStatus() == null ? null : vehicle.getStatus().name());
+        return node;
+    }
+
+    /**
+     * PNG del QR ya guardado. El texto de un QR no cambia, asi que los bytes
+     * renderizados se guardan en un cache acotado por id junto con su ETag.
+     */
+    public QrImage getQrCodePng(Long id) throws Exception {
+        QrImage cached = pngCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<QRCode> qrCode = qrCodeRepository.findById(id);
+        if (qrCode.isEmpty()) {
             return null;
         }
+        String barcodeText = qrCode.get().getBarcodeText();
+        if (barcodeText == null) {
+            // emision en curso o cortada antes de guardar el texto: el token depende solo del id
+            barcodeText = qrTokenCodec.encode(id);
+        }
+        return cache(id, barcodeText);
+    }
+
+    private QrImage cache(Long id, String barcodeText) throws Exception {
+        QrImage image = new QrImage(QrPngWriter.render(barcodeText, 400), etag(barcodeText, 400));
+        pngCache.put(id, image);
+        return image;
+    }
+
+    // ETag fuerte: depende solo del contenido y del tamaño de la imagen
+    private static String etag(String barcodeText, int size) throws NoSuchAlgorithmException {
+        return "\"" + sha256Hex(barcodeText + '\0' + size).substring(0, 32) + "\"";
+    }
+
+    private static String sha256Hex(String value) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public record QrImage(byte[] png, String etag) {
     }
 }
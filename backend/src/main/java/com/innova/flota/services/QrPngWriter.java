@@ -0,0 +1,124 @@
+package com.innova.flota.services;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Escribe un QR como PNG en escala de grises de 1 bit directo desde el BitMatrix,
+ * sin pasar por BufferedImage. Cada modulo se escala a un entero de pixeles, asi
+ * que la imagen queda nitida y pesa una fraccion del PNG RGB que arma MatrixToImageWriter.
+ */
+public final class QrPngWriter {
+
+    private static final Map<EncodeHintType, Object> HINTS = Map.of(
+            EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name(),
+            EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    private QrPngWriter() {
+    }
+
+    /** Codifica el texto y devuelve el PNG con el lado mas cercano a targetSize (sin pasarse, minimo 1px por modulo). */
+    public static byte[] render(String text, int targetSize) throws WriterException {
+        BitMatrix matrix = encode(text);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        try {
+            write(matrix, scaleFor(matrix, targetSize), out);
+        } catch (IOException e) {
+            // ByteArrayOutputStream no lanza IOException
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Matriz con un pixel por modulo (incluye la zona de silencio). UTF-8 explicito para que
+     * los acentos no salgan como ISO-8859-1, y correccion M para stickers algo gastados.
+     */
+    public static BitMatrix encode(String text) throws WriterException {
+        return new QRCodeWriter().encode(text, BarcodeFormat.QR_CODE, 0, 0, HINTS);
+    }
+
+    public static int scaleFor(BitMatrix matrix, int targetSize) {
+        return Math.max(1, targetSize / matrix.getWidth());
+    }
+
+    public static void write(BitMatrix matrix, int scale, OutputStream out) throws IOException {
+        int width = matrix.getWidth() * scale;
+        int height = matrix.getHeight() * scale;
+        int bytesPerRow = (width + 7) / 8;
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(PNG_SIGNATURE);
+
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream(13);
+        DataOutputStream header = new DataOutputStream(ihdr);
+        header.writeInt(width);
+        header.writeInt(height);
+        header.writeByte(1); // bit depth
+        header.writeByte(0); // escala de grises
+        header.writeByte(0); // deflate
+        header.writeByte(0); // filtro adaptativo estandar
+        header.writeByte(0); // sin entrelazado
+        writeChunk(data, "IHDR", ihdr.toByteArray(), 13);
+
+        // cada fila de modulos se empaqueta una vez y se repite "scale" veces;
+        // el byte 0 de cada linea es el filtro (None). 1 = blanco, 0 = negro
+        ByteArrayOutputStream idat = new ByteArrayOutputStream(bytesPerRow * height / 8 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream zlib = new DeflaterOutputStream(idat, deflater, 8192)) {
+            byte[] line = new byte[bytesPerRow + 1];
+            for (int y = 0; y < matrix.getHeight(); y++) {
+                packRow(matrix, y, scale, line);
+                for (int i = 0; i < scale; i++) {
+                    zlib.write(line);
+                }
+            }
+        } finally {
+            deflater.end();
+        }
+        writeChunk(data, "IDAT", idat.toByteArray(), idat.size());
+        writeChunk(data, "IEND", new byte[0], 0);
+        data.flush();
+    }
+
+    private static void packRow(BitMatrix matrix, int y, int scale, byte[] line) {
+        Arrays.fill(line, (byte) 0);
+        int px = 0;
+        for (int x = 0; x < matrix.getWidth(); x++) {
+            boolean white = !matrix.get(x, y);
+            for (int i = 0; i < scale; i++, px++) {
+                if (white) {
+                    line[1 + (px >>> 3)] |= (byte) (0x80 >>> (px & 7));
+                }
+            }
+        }
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] body, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(body, 0, length);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(body, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+}
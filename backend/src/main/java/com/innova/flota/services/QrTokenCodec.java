@@ -0,0 +1,84 @@
+package com.innova.flota.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Locale;
+
+/**
+ * Payload compacto del QR: "FL1." + id del QR en base 36 + "." + firma HMAC truncada.
+ * Todo en mayusculas, digitos, punto: entra en el modo alfanumerico del QR y queda
+ * en version 1-2 en vez del JSON completo. El escaner resuelve el token contra la API.
+ */
+@Component
+public class QrTokenCodec {
+
+    // el numero es la version del formato; si cambia, el prefijo nuevo convive con el viejo
+    static final String PREFIX = "FL1.";
+    private static final int SIGNATURE_LENGTH = 10;
+
+    private final SecretKeySpec key;
+
+    public QrTokenCodec(@Value("${qr.token.secret}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    }
+
+    public String encode(long qrId) {
+        String id = Long.toString(qrId, 36).toUpperCase(Locale.ROOT);
+        return PREFIX + id + "." + signature(id);
+    }
+
+    /** Id del QR dentro del token, o null si el formato no calza o la firma no coincide. */
+    public Long decode(String scanned) {
+        if (scanned == null) {
+            return null;
+        }
+        String text = scanned.trim().toUpperCase(Locale.ROOT);
+        if (!text.startsWith(PREFIX)) {
+            return null;
+        }
+        int dot = text.indexOf('.', PREFIX.length());
+        if (dot < 0) {
+            return null;
+        }
+        String id = text.substring(PREFIX.length(), dot);
+        String signature = text.substring(dot + 1);
+        if (!constantTimeEquals(signature, signature(id))) {
+            return null;
+        }
+        return parse(id, 36);
+    }
+
+    private String signature(String id) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] digest = mac.doFinal((PREFIX + id).getBytes(StandardCharsets.US_ASCII));
+            // 50 bits de la firma -> 10 caracteres base 36 como maximo
+            long bits = ByteBuffer.wrap(digest).getLong() >>> 14;
+            String encoded = Long.toString(bits, 36).toUpperCase(Locale.ROOT);
+            return "0".repeat(SIGNATURE_LENGTH - encoded.length()) + encoded;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 no disponible", e);
+        }
+    }
+
+    private static Long parse(String value, int radix) {
+        try {
+            return Long.parseLong(value, radix);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean constantTimeEquals(String a, String b) {
+        return MessageDigest.isEqual(
+                a.getBytes(StandardCharsets.US_ASCII), b.getBytes(StandardCharsets.US_ASCII));
+    }
+}
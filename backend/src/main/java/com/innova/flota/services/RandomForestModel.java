@@ -0,0 +1,163 @@
+package com.innova.flota.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RandomForest de scikit-learn evaluado en la JVM. Se carga del JSON que genera
+ * vehicle-telemetry-scikit/src/export_model.py y repite las mismas reglas que
+ * predict_proba: entrada casteada a float32, izquierda si x &lt;= umbral, probabilidad
+ * de la hoja normalizada y promedio entre arboles. Es inmutable y thread-safe.
+ */
+public final class RandomForestModel {
+
+    private static final String FORMAT = "sklearn-random-forest";
+
+    private final List<String> features;
+    private final Tree[] trees;
+
+    private RandomForestModel(List<String> features, Tree[] trees) {
+        this.features = features;
+        this.trees = trees;
+    }
+
+    public static RandomForestModel read(InputStream in, ObjectMapper objectMapper) throws IOException {
+        JsonNode root = objectMapper.readTree(in);
+        if (!FORMAT.equals(root.path("format").asText()) || root.path("version").asInt() != 1) {
+            throw new IOException("Formato de modelo no soportado: " + root.path("format").asText());
+        }
+        JsonNode classes = root.path("classes");
+        if (classes.size() != 2 || classes.get(0).asInt() != 0 || classes.get(1).asInt() != 1) {
+            throw new IOException("El modelo tiene que ser binario con clases [0, 1]");
+        }
+
+        List<String> features = new ArrayList<>();
+        root.path("features").forEach(name -> features.add(name.asText()));
+
+        JsonNode treeNodes = root.path("trees");
+        Tree[] trees = new Tree[treeNodes.size()];
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = Tree.of(treeNodes.get(i), features.size());
+        }
+        if (trees.length == 0) {
+            throw new IOException("El modelo no tiene arboles");
+        }
+        return new RandomForestModel(List.copyOf(features), trees);
+    }
+
+    /** Nombres de las features en el orden que espera {@link #probability(double[])}. */
+    public List<String> features() {
+        return features;
+    }
+
+    /** Probabilidad de la clase 1 (necesita mantenimiento), igual que predict_proba[:, 1]. */
+    public double probability(double[] x) {
+        return probabilities(x)[1];
+    }
+
+    /** Clase predicha; como en sklearn gana la clase 0 en empate. */
+    public boolean predict(double[] x) {
+        double[] proba = probabilities(x);
+        return proba[1] > proba[0];
+    }
+
+    /** [p0, p1]. Suma en el orden de los arboles y divide al final, como sklearn. */
+    public double[] probabilities(double[] x) {
+        if (x.length != features.size()) {
+            throw new IllegalArgumentException("Se esperaban " + features.size() + " features y llegaron " + x.length);
+        }
+        float[] input = new float[x.length];
+        for (int i = 0; i < x.length; i++) {
+            input[i] = (float) x[i];
+        }
+        double p0 = 0;
+        double p1 = 0;
+        for (Tree tree : trees) {
+            int leaf = tree.leaf(input);
+            p0 += tree.proba0[leaf];
+            p1 += tree.proba1[leaf];
+        }
+        return new double[] { p0 / trees.length, p1 / trees.length };
+    }
+
+    /** Un arbol en arreglos paralelos por nodo; las hojas tienen left == -1. */
+    private static final class Tree {
+
+        private final int[] left;
+        private final int[] right;
+        private final int[] feature;
+        private final double[] threshold;
+        private final double[] proba0;
+        private final double[] proba1;
+
+        private Tree(int[] left, int[] right, int[] feature, double[] threshold, double[] proba0, double[] proba1) {
+            this.left = left;
+            this.right = right;
+            this.feature = feature;
+            this.threshold = threshold;
+            this.proba0 = proba0;
+            this.proba1 = proba1;
+        }
+
+        static Tree of(JsonNode node, int featureCount) throws IOException {
+            int[] left = ints(node.path("left"));
+            int[] right = ints(node.path("right"));
+            int[] feature = ints(node.path("feature"));
+            double[] threshold = doubles(node.path("threshold"));
+            double[] value0 = doubles(node.path("value0"));
+            double[] value1 = doubles(node.path("value1"));
+            int size = left.length;
+            if (size == 0 || right.length != size || feature.length != size || threshold.length != size
+                    || value0.length != size || value1.length != size) {
+                throw new IOException("Arbol con arreglos de distinto largo");
+            }
+
+            double[] proba0 = new double[size];
+            double[] proba1 = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (left[i] == -1) {
+                    // hojas: misma normalizacion que DecisionTreeClassifier.predict_proba
+                    double normalizer = value0[i] + value1[i];
+                    if (normalizer == 0.0) {
+                        normalizer = 1.0;
+                    }
+                    proba0[i] = value0[i] / normalizer;
+                    proba1[i] = value1[i] / normalizer;
+                } else if (left[i] <= i || left[i] >= size || right[i] <= i || right[i] >= size
+                        || feature[i] < 0 || feature[i] >= featureCount) {
+                    throw new IOException("Nodo invalido en el arbol: " + i);
+                }
+            }
+            return new Tree(left, right, feature, threshold, proba0, proba1);
+        }
+
+        int leaf(float[] x) {
+            int node = 0;
+            while (left[node] != -1) {
+                node = x[feature[node]] <= threshold[node] ? left[node] : right[node];
+            }
+            return node;
+        }
+
+        private static int[] ints(JsonNode array) {
+            int[] values = new int[array.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = array.get(i).asInt();
+            }
+            return values;
+        }
+
+        private static double[] doubles(JsonNode array) {
+            double[] values = new double[array.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = array.get(i).asDouble();
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.innova.flota.services;
+
+import com.innova.flota.controllers.TestTrackerDTO;
+import com.innova.flota.model.TravelLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cola acotada entre los streams de los trackers y travel_log. Un unico hilo
+ * vacia la cola y escribe por lotes con {@link TravelLogIngestService}; cuando
+ * la cola se llena, {@link #submit} bloquea al lector de la conexion y la
+ * presion se propaga al tracker por TCP.
+ * <p>
+ * Los frames ya se confirmaron al tracker, asi que un lote fallido no se tira:
+ * los errores de conexion se reintentan con espera y los demas parten el lote
+ * en mitades hasta aislar las filas malas, que se descartan contandolas en
+ * {@code ingest.stream.discarded} y quedan en el log.
+ */
+@Service
+public class TelemetryPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryPipeline.class);
+
+    @Value("${ingest.stream.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${ingest.stream.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${ingest.stream.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    @Value("${ingest.stream.retry-attempts:5}")
+    private int retryAttempts;
+
+    @Value("${ingest.stream.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private final TravelLogIngestService travelLogIngestService;
+    private final Counter discarded;
+
+    private BlockingQueue<TravelLog> queue;
+    private Thread drainer;
+    private volatile boolean running;
+
+    public TelemetryPipeline(TravelLogIngestService travelLogIngestService, MeterRegistry meterRegistry) {
+        this.travelLogIngestService = travelLogIngestService;
+        this.discarded = Counter.builder("ingest.stream.discarded")
+                .description("posiciones confirmadas al tracker que no se pudieron escribir")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        drainer = new Thread(this::drainLoop, "telemetry-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Encola una posicion. Espera hasta {@code timeoutMs} si la cola esta llena
+     * y devuelve false si no hubo espacio en ese tiempo.
+     */
+    public boolean submit(TestTrackerDTO frame, long timeoutMs) throws InterruptedException {
+        return queue.offer(toTravelLog(frame, LocalDateTime.now()), timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<TravelLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TravelLog first = queue.poll(pollIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TravelLog> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                travelLogIngestService.ingest(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (!isRetryable(e)) {
+                    isolate(batch, e);
+                    return;
+                }
+                if (attempt >= retryAttempts) {
+                    logger.error("Base no disponible tras {} intentos, se descartan {} posiciones",
+                            attempt, batch.size(), e);
+                    discarded.increment(batch.size());
+                    return;
+                }
+                logger.warn("Fallo al escribir {} posiciones (intento {}), reintentando: {}",
+                        batch.size(), attempt, e.getMessage());
+                Thread.sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    /** Parte el lote en mitades hasta dejar solo las filas que fallan por si mismas. */
+    private void isolate(List<TravelLog> batch, RuntimeException cause) {
+        if (batch.size() == 1) {
+            TravelLog log = batch.get(0);
+            logger.warn("Posicion descartada (vehiculo {}, {}): {}",
+                    log.getVehicleId(), log.getCreatedAt(), cause.getMessage());
+            discarded.increment();
+            return;
+        }
+        int middle = batch.size() / 2;
+        for (List<TravelLog> half : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+            try {
+                travelLogIngestService.ingest(new ArrayList<>(half));
+            } catch (RuntimeException e) {
+                isolate(half, e);
+            }
+        }
+    }
+
+    // errores de conexion o de concurrencia: el mismo lote puede entrar mas tarde
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    private static TravelLog toTravelLog(TestTrackerDTO frame, LocalDateTime receivedAt) {
+        TravelLog log = new TravelLog();
+        log.setVehicleId(frame.getVehicleId());
+        log.setStartLatitude(frame.getLat());
+        log.setStartLongitude(frame.getLng());
+        log.setEndLatitude(frame.getLat());
+        log.setEndLongitude(frame.getLng());
+        log.setState("IN_PROGRESS");
+        log.setCreatedAt(receivedAt);
+        return log;
+    }
+}
@@ -0,0 +1,58 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.TravelLog;
+import com.innova.flota.repositories.TravelLogBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class TravelLogIngestService {
+
+    @Value("${ingest.travel-log.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${ingest.travel-log.max-rows-per-request:10000}")
+    private int maxRowsPerRequest;
+
+    private final TravelLogBatchRepository travelLogBatchRepository;
+    private final LivePositionStore livePositionStore;
+    private final DashboardStatsCache dashboardStatsCache;
+    private final PredictionCache predictionCache;
+
+    public TravelLogIngestService(TravelLogBatchRepository travelLogBatchRepository,
+            LivePositionStore livePositionStore, DashboardStatsCache dashboardStatsCache,
+            PredictionCache predictionCache) {
+        this.travelLogBatchRepository = travelLogBatchRepository;
+        this.livePositionStore = livePositionStore;
+        this.dashboardStatsCache = dashboardStatsCache;
+        this.predictionCache = predictionCache;
+    }
+
+    /**
+     * Escribe todos los registros en una sola transaccion, en lotes JDBC de
+     * {@code batchSize} filas.
+     */
+    @Transactional
+    public int ingest(List<TravelLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        if (logs.size() > maxRowsPerRequest) {
+            throw new IllegalArgumentException(
+                    "Se permiten como maximo " + maxRowsPerRequest + " registros por solicitud");
+        }
+        int inserted = travelLogBatchRepository.insertAll(logs, batchSize);
+        // los suscriptores solo ven posiciones ya confirmadas
+        AfterCommit.run(() -> livePositionStore.updateAll(logs));
+        // el insert JDBC no pasa por los listeners JPA
+        AfterCommit.run(dashboardStatsCache::invalidate);
+        // cambian los promedios de viaje de estos vehiculos
+        List<Long> vehicleIds = logs.stream().map(TravelLog::getVehicleId).filter(Objects::nonNull).distinct().toList();
+        AfterCommit.run(() -> predictionCache.invalidateAll(vehicleIds));
+        return inserted;
+    }
+}
@@ -0,0 +1,120 @@
+package com.innova.flota.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantiene las particiones mensuales de travel_log (ver V3__partition_travel_log.sql):
+ * crea por adelantado las de los proximos meses y borra las que quedaron fuera de la
+ * retencion. Borrar una particion es un DROP TABLE, no un DELETE fila por fila.
+ * Todo es idempotente, asi que varias instancias pueden correrlo a la vez.
+ */
+@Service
+public class TravelLogPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelLogPartitionService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("travel_log_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String CHILD_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'travel_log'
+            """;
+
+    @Value("${travel-log.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    // 0 = sin retencion, se guarda todo
+    @Value("${travel-log.retention-months:24}")
+    private int retentionMonths;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TravelLogPartitionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // al arrancar tambien, por si la app estuvo abajo cuando tocaba crear el mes
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${travel-log.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            YearMonth current = YearMonth.now();
+            List<YearMonth> existing = existingPartitions();
+            for (int i = 0; i <= monthsAhead; i++) {
+                YearMonth month = current.plusMonths(i);
+                if (!existing.contains(month)) {
+                    create(month);
+                }
+            }
+            if (retentionMonths > 0) {
+                expire(current.minusMonths(retentionMonths), existing);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("No se pudieron mantener las particiones de travel_log: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<YearMonth> existingPartitions() {
+        return jdbcTemplate.queryForList(CHILD_PARTITIONS, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.parse(matcher.group(1), SUFFIX))
+                .toList();
+    }
+
+    private void create(YearMonth month) {
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + tableName(month)
+                    + " PARTITION OF travel_log FOR VALUES FROM ('" + month.atDay(1)
+                    + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            logger.info("Particion {} creada", tableName(month));
+        } catch (DataAccessException e) {
+            // pasa si travel_log_default ya tiene filas de ese mes: hay que moverlas a mano
+            logger.warn("No se pudo crear la particion {}: {}", tableName(month), e.getMessage());
+        }
+    }
+
+    /** Borra las particiones de meses anteriores a {@code firstKept} y lo viejo de la default. */
+    private void expire(YearMonth firstKept, List<YearMonth> existing) {
+        for (YearMonth month : existing) {
+            if (month.isBefore(firstKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + tableName(month));
+                logger.info("Particion {} eliminada por retencion", tableName(month));
+            }
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM travel_log_default WHERE created_at < ?",
+                firstKept.atDay(1).atStartOfDay());
+        if (deleted > 0) {
+            logger.info("{} registros viejos eliminados de travel_log_default", deleted);
+        }
+    }
+
+    private static String tableName(YearMonth month) {
+        return "travel_log_p" + month.format(SUFFIX);
+    }
+}
@@ -0,0 +1,70 @@
+package com.innova.flota.services;
+
+import com.innova.flota.model.TripDurationRollup;
+import com.innova.flota.repositories.TripDurationRollupRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rollups de duracion de viaje. Un trigger sobre travel_log suma cada viaje
+ * terminado (arrival_time y created_at no nulos) a trip_duration_rollup, asi
+ * el dashboard lee unas pocas filas en vez de recorrer travel_log. Los
+ * borrados de travel_log no descuentan: el rollup es historico. El trigger
+ * se instala con la migracion V1__baseline_schema.sql.
+ */
+@Service
+public class TripDurationRollupService {
+
+    private final TripDurationRollupRepository tripDurationRollupRepository;
+
+    public TripDurationRollupService(TripDurationRollupRepository tripDurationRollupRepository) {
+        this.tripDurationRollupRepository = tripDurationRollupRepository;
+    }
+
+    /**
+     * Duracion promedio en minutos por vehiculo, en una sola consulta para todos
+     * los ids. Los vehiculos sin viajes terminados no quedan en el mapa.
+     */
+    public Map<Long, Double> averageMinutesByVehicle(Collection<Long> vehicleIds) {
+        Map<Long, Double> result = new HashMap<>();
+        if (vehicleIds.isEmpty()) {
+            return result;
+        }
+        for (TripDurationRollup rollup : tripDurationRollupRepository
+                .findByScopeAndBucketKeyIn(TripDurationRollup.Scope.VEHICLE, vehicleIds)) {
+            if (rollup.getTripCount() > 0) {
+                result.put(rollup.getBucketKey(), rollup.getTotalMinutes() / rollup.getTripCount());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Promedio en minutos por dia de la semana (0=Dom ... 6=Sab) de los viajes
+     * iniciados en los ultimos 7 dias, a partir de los rollups diarios.
+     */
+    public Map<Integer, Long> averageMinutesByDayOfWeekLastWeek() {
+        LocalDate from = LocalDate.now().minusDays(6);
+        Map<Integer, Long> result = new HashMap<>();
+        for (TripDurationRollup day : tripDurationRollupRepository
+                .findByScopeAndBucketKeyGreaterThanEqual(TripDurationRollup.Scope.DAY, dayKey(from))) {
+            if (day.getTripCount() <= 0) {
+                continue;
+            }
+            LocalDate date = LocalDate.of((int) (day.getBucketKey() / 10000),
+                    (int) (day.getBucketKey() / 100 % 100), (int) (day.getBucketKey() % 100));
+            // java: 1=Lun ... 7=Dom -> postgres: 0=Dom ... 6=Sab
+            int dayOfWeek = date.getDayOfWeek().getValue() % 7;
+            result.put(dayOfWeek, Math.round(day.getTotalMinutes() / day.getTripCount()));
+        }
+        return result;
+    }
+
+    private static long dayKey(LocalDate date) {
+        return date.getYear() * 10000L + date.getMonthValue() * 100L + date.getDayOfMonth();
+    }
+}
@@ -0,0 +1,203 @@
+-- Esquema base: las tablas tal como las creaba Hibernate (ddl-auto=create) antes
+-- de pasar a migraciones, mas lo que se instalaba aparte: el indice espacial de
+-- db/manual/travel_log_point_columns.sql y el trigger de trip_duration_rollup que
+-- levantaba TripDurationRollupService al arrancar.
+
+create table email_outbox (
+    id bigint generated by default as identity,
+    attachment_png bytea,
+    attempts integer not null,
+    campaign varchar(64),
+    created_at timestamp(6) not null,
+    last_error varchar(1000),
+    message text,
+    next_attempt_at timestamp(6) not null,
+    recipient varchar(255) not null,
+    sent_at timestamp(6),
+    status varchar(16) not null check (status in ('PENDING','SENDING','SENT','FAILED')),
+    subject varchar(255) not null,
+    primary key (id)
+);
+
+create table fleet_health_rollup (
+    id bigint generated by default as identity,
+    bucket_start date not null,
+    fuel_efficiency_count bigint not null,
+    fuel_efficiency_sum float(53) not null,
+    granularity varchar(255) not null check (granularity in ('MONTH','WEEK')),
+    maintenance_sum bigint not null,
+    snapshot_count bigint not null,
+    primary key (id),
+    constraint uk_fleet_health_rollup_bucket unique (granularity, bucket_start)
+);
+
+create table maintenance_predict (
+    id bigint generated by default as identity,
+    "car-id" bigint unique,
+    confidence_score float4,
+    needs_maintenance boolean,
+    predicted timestamp(6),
+    primary key (id)
+);
+
+create table maintenance_ticket (
+    id bigint generated by default as identity,
+    created_at timestamp(6),
+    description varchar(255),
+    fecha_mantencion timestamp(6),
+    millaje integer,
+    notas_extra varchar(255),
+    status varchar(255),
+    vehicleid bigint,
+    workshop_id bigint,
+    primary key (id)
+);
+
+create table qrcodes (
+    id bigint generated by default as identity,
+    barcode_text varchar(255),
+    payload_hash varchar(64),
+    vehicle_id bigint,
+    primary key (id),
+    constraint uk_qrcodes_payload_hash unique (payload_hash)
+);
+
+create table travel_log (
+    id bigint generated by default as identity,
+    arrival_time timestamp(6),
+    avg_acceleration float4,
+    avg_speed float4,
+    created_at timestamp(6),
+    end_latitude float(53) not null,
+    end_longitude float(53) not null,
+    start_latitude float(53) not null,
+    start_longitude float(53) not null,
+    state varchar(255),
+    vehicle_id bigint,
+    primary key (id)
+);
+
+create table trip_duration_rollup (
+    id bigint generated by default as identity,
+    bucket_key bigint not null,
+    scope varchar(16) not null check (scope in ('DAY','DOW','VEHICLE')),
+    total_minutes float(53) not null,
+    trip_count bigint not null,
+    primary key (id),
+    constraint uk_trip_duration_rollup_bucket unique (scope, bucket_key)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255),
+    password varchar(255) not null,
+    phone varchar(255),
+    role varchar(255) check (role in ('ADMIN','USER','DRIVER')),
+    username varchar(255),
+    primary key (id)
+);
+
+create table vehicle (
+    id bigint generated by default as identity,
+    battery_health float(53),
+    engine_health float(53),
+    fuel_efficiency float(53),
+    km_recorrido integer not null,
+    marca varchar(255),
+    modelo varchar(255),
+    odometer_reading float(53),
+    patente varchar(255),
+    status varchar(255) check (status in ('OPERATIONAL','PENDING_REVIEW','IN_MAINTENANCE')),
+    year integer,
+    driver_id bigint,
+    primary key (id)
+);
+
+create table vehicle_health_snapshot (
+    id bigint generated by default as identity,
+    battery_health float(53),
+    engine_health float(53),
+    fuel_efficiency float(53),
+    km_recorrido integer,
+    needs_maintenance boolean not null,
+    taken_at timestamp(6) not null,
+    vehicle_id bigint not null,
+    primary key (id)
+);
+
+create table workshop (
+    id bigint generated by default as identity,
+    direction varchar(255),
+    location varchar(255),
+    name varchar(255),
+    primary key (id)
+);
+
+create index idx_email_outbox_due
+   on email_outbox (status, next_attempt_at);
+
+create index idx_email_outbox_campaign
+   on email_outbox (campaign);
+
+create index idx_qrcodes_vehicle
+   on qrcodes (vehicle_id);
+
+create index idx_travel_log_vehicle_created
+   on travel_log (vehicle_id, created_at, id);
+
+create index idx_travel_log_created
+   on travel_log (created_at, id);
+
+create index idx_health_snapshot_taken
+   on vehicle_health_snapshot (taken_at);
+
+create index idx_health_snapshot_vehicle_taken
+   on vehicle_health_snapshot (vehicle_id, taken_at);
+
+alter table vehicle
+   add constraint fk_vehicle_driver
+   foreign key (driver_id)
+   references users;
+
+-- indice espacial sobre la posicion final (busquedas por caja o cercania)
+create index idx_travel_log_end_point
+   on travel_log using gist (point(end_latitude, end_longitude));
+
+-- trip_duration_rollup: un trigger sobre travel_log suma cada viaje terminado
+-- (arrival_time y created_at no nulos) por dia, dia de la semana y vehiculo
+create or replace function trip_duration_rollup_apply(p_vehicle_id bigint, p_created_at timestamp,
+                                                      p_arrival_time timestamp, p_sign integer)
+returns void as $$
+declare
+    v_minutes double precision := extract(epoch from (p_arrival_time - p_created_at)) / 60 * p_sign;
+begin
+    insert into trip_duration_rollup (scope, bucket_key, total_minutes, trip_count)
+    values ('DAY', cast(to_char(p_created_at, 'YYYYMMDD') as bigint), v_minutes, p_sign),
+           ('DOW', extract(dow from p_created_at), v_minutes, p_sign),
+           ('VEHICLE', p_vehicle_id, v_minutes, p_sign)
+    on conflict (scope, bucket_key) do update set
+        total_minutes = trip_duration_rollup.total_minutes + excluded.total_minutes,
+        trip_count = trip_duration_rollup.trip_count + excluded.trip_count;
+end
+$$ language plpgsql;
+
+create or replace function trip_duration_rollup_trigger() returns trigger as $$
+begin
+    if TG_OP = 'UPDATE' and OLD.arrival_time is not null and OLD.created_at is not null then
+        if NEW.arrival_time is not distinct from OLD.arrival_time
+                and NEW.created_at is not distinct from OLD.created_at
+                and NEW.vehicle_id is not distinct from OLD.vehicle_id then
+            return NEW;
+        end if;
+        perform trip_duration_rollup_apply(OLD.vehicle_id, OLD.created_at, OLD.arrival_time, -1);
+    end if;
+    if NEW.arrival_time is not null and NEW.created_at is not null then
+        perform trip_duration_rollup_apply(NEW.vehicle_id, NEW.created_at, NEW.arrival_time, 1);
+    end if;
+    return NEW;
+end
+$$ language plpgsql;
+
+create trigger trg_travel_log_trip_rollup
+after insert or update of arrival_time, created_at, vehicle_id on travel_log
+for each row execute function trip_duration_rollup_trigger();
@@ -0,0 +1,18 @@
+-- Indices para las consultas frecuentes. travel_log(vehicle_id, created_at) ya
+-- esta cubierto por idx_travel_log_vehicle_created (vehicle_id, created_at, id).
+
+-- tickets por vehiculo (historial, dashboard)
+create index idx_maintenance_ticket_vehicle
+   on maintenance_ticket (vehicleid);
+
+-- login y registro: findByEmail / existsByEmail / existsByUsername. Unicos para que
+-- dos registros simultaneos no puedan crear el mismo usuario.
+create unique index uk_users_email
+   on users (email);
+
+create unique index uk_users_username
+   on users (username);
+
+-- busqueda por patente
+create index idx_vehicle_patente
+   on vehicle (patente);
@@ -0,0 +1,94 @@
+-- travel_log particionada por mes sobre created_at. Las consultas con ventana de
+-- tiempo (created_at >= ...) solo recorren las particiones recientes y la retencion
+-- se aplica borrando particiones enteras. Las particiones futuras y el borrado las
+-- maneja TravelLogPartitionService; aca se crean las que cubren los datos actuales.
+-- La clave de particion tiene que ser parte de la PK, por eso (id, created_at).
+
+-- "if exists": una base marcada con baseline (creada por Hibernate) puede no tener el
+-- indice gist ni el trigger, que antes se instalaban aparte
+alter table travel_log rename to travel_log_unpartitioned;
+drop trigger if exists trg_travel_log_trip_rollup on travel_log_unpartitioned;
+drop index if exists idx_travel_log_vehicle_created;
+drop index if exists idx_travel_log_created;
+drop index if exists idx_travel_log_end_point;
+
+create table travel_log (
+    id bigint generated by default as identity,
+    arrival_time timestamp(6),
+    avg_acceleration float4,
+    avg_speed float4,
+    created_at timestamp(6) not null default localtimestamp,
+    end_latitude float(53) not null,
+    end_longitude float(53) not null,
+    start_latitude float(53) not null,
+    start_longitude float(53) not null,
+    state varchar(255),
+    vehicle_id bigint,
+    primary key (id, created_at)
+) partition by range (created_at);
+
+-- lo que cae fuera de las particiones mensuales (fechas muy viejas o muy futuras)
+create table travel_log_default partition of travel_log default;
+
+-- un mes por particion desde el dato mas viejo hasta dos meses adelante
+do $$
+declare
+    v_month date := date_trunc('month', coalesce((select min(coalesce(created_at, arrival_time))
+                                                  from travel_log_unpartitioned), localtimestamp));
+    v_last  date := date_trunc('month', localtimestamp) + interval '2 months';
+begin
+    while v_month <= v_last loop
+        execute format('create table travel_log_p%s partition of travel_log for values from (%L) to (%L)',
+                       to_char(v_month, 'YYYYMM'), v_month, (v_month + interval '1 month')::date);
+        v_month := (v_month + interval '1 month')::date;
+    end loop;
+end $$;
+
+-- se copian antes de crear el trigger: esos viajes ya estan en trip_duration_rollup
+insert into travel_log (id, arrival_time, avg_acceleration, avg_speed, created_at, end_latitude, end_longitude,
+                        start_latitude, start_longitude, state, vehicle_id)
+select id, arrival_time, avg_acceleration, avg_speed, coalesce(created_at, arrival_time, localtimestamp),
+       end_latitude, end_longitude, start_latitude, start_longitude, state, vehicle_id
+from travel_log_unpartitioned;
+
+-- las filas sin created_at no estaban en el rollup (el trigger pide los dos tiempos) y ahora
+-- quedan con created_at = arrival_time: se suman como viajes de 0 minutos, porque si no el
+-- trigger las descontaria la proxima vez que se actualicen sin haberlas sumado nunca
+select trip_duration_rollup_apply(vehicle_id, arrival_time, arrival_time, 1)
+from travel_log_unpartitioned
+where created_at is null and arrival_time is not null and vehicle_id is not null;
+
+select setval(pg_get_serial_sequence('travel_log', 'id'),
+              coalesce((select max(id) from travel_log), 0) + 1, false);
+
+drop table travel_log_unpartitioned;
+
+-- indices en la tabla padre: cada particion recibe el suyo
+create index idx_travel_log_vehicle_created
+   on travel_log (vehicle_id, created_at, id);
+
+create index idx_travel_log_created
+   on travel_log (created_at, id);
+
+create index idx_travel_log_end_point
+   on travel_log using gist (point(end_latitude, end_longitude));
+
+create trigger trg_travel_log_trip_rollup
+after insert or update of arrival_time, created_at, vehicle_id on travel_log
+for each row execute function trip_duration_rollup_trigger();
+
+-- created_at es la clave de particion: un UPDATE que la cambia de mes se ejecuta como DELETE +
+-- INSERT entre particiones y el trigger de arriba solo ve el INSERT (el viaje quedaria contado
+-- dos veces). La fecha de creacion de un viaje no se edita, asi que se rechaza el cambio.
+create or replace function travel_log_created_at_immutable() returns trigger as $$
+begin
+    if NEW.created_at is distinct from OLD.created_at then
+        raise exception 'travel_log.created_at no se puede modificar (id %)', OLD.id;
+    end if;
+    return NEW;
+end
+$$ language plpgsql;
+
+create trigger trg_travel_log_created_at_immutable
+before update of created_at on travel_log
+for each row execute function travel_log_created_at_immutable();
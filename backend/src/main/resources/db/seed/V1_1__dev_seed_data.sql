@@ -1,3 +1,5 @@
+-- Datos de prueba: solo se cargan con el perfil dev (ver application-dev.properties).
+
 -- Users
 -- Password for all test users is 'password123' (BCrypt hash)
 INSERT INTO users (username, email, phone, password, role) VALUES ('user_1942', 'user_1942@test.com', '111111942', '$2a$10$8Usyjn1h7kynB0f/ezc/mOunCH8D/3Z99qbKM3d0POrsc9y6tLiuK', 'DRIVER');
@@ -103,202 +105,202 @@ INSERT INTO users (username, email, phone, password, role) VALUES ('user_8848',
 
 -- Vehicles
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_44779', 'Chevrolet', 'Bolt EV', 11305, 2024, 36.68, 50.54, 70.63, 14683.51, 1, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (1, '(-33.432688, -71.469987)', '(-33.869965, -71.232147)', 52.15, 3.56, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '29 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (1, -33.432688, -71.469987, -33.869965, -71.232147, 52.15, 3.56, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '29 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_21964', 'Audi', 'e-Tron', 86903, 2021, 13.26, 71.39, 62.66, 90184.55, 2, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (2, '(-33.316235, -70.687961)', '(-33.129385, -71.395673)', 87.42, 1.37, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '18 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (2, -33.316235, -70.687961, -33.129385, -71.395673, 87.42, 1.37, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '18 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_68514', 'Chevrolet', 'Bolt EV', 8851, 2021, 12.97, 57.24, 64.43, 13688.76, 3, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (3, '(-33.693694, -71.464243)', '(-33.937634, -70.893574)', 4.47, 3.39, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '50 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (3, -33.693694, -71.464243, -33.937634, -70.893574, 4.47, 3.39, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '50 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_62513', 'Tesla', 'Model S', 97443, 2021, 19.22, 100.0, 81.27, 101203.99, 4, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (4, '(-34.168157, -71.261395)', '(-33.420139, -70.846070)', 76.62, 2.29, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '46 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (4, -34.168157, -71.261395, -33.420139, -70.846070, 76.62, 2.29, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '46 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_67381', 'BMW', 'i4', 65055, 2019, 38.26, 100.0, 99.32, 69352.36, 5, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (5, '(-33.935471, -70.792881)', '(-33.228683, -71.492201)', 113.39, 0.9, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '43 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (5, -33.935471, -70.792881, -33.228683, -71.492201, 113.39, 0.9, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '43 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_44946', 'Nissan', 'Leaf', 25159, 2016, 31.4, 100.0, 64.43, 28907.56, 6, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (6, '(-33.233017, -70.662233)', '(-33.791699, -71.313425)', 119.67, 2.07, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '32 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (6, -33.233017, -70.662233, -33.791699, -71.313425, 119.67, 2.07, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '32 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_22708', 'Honda', 'Civic', 147385, 2024, 35.12, 100.0, 86.87, 148644.28, 7, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (7, '(-33.051344, -71.096087)', '(-34.088705, -71.383940)', 108.71, 4.14, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '28 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (7, -33.051344, -71.096087, -34.088705, -71.383940, 108.71, 4.14, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '28 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_46666', 'Tesla', 'Model S', 8256, 2022, 17.11, 100.0, 79.65, 9938.56, 8, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (8, '(-33.183007, -70.775529)', '(-33.231446, -70.624322)', 114.2, 1.88, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '84 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (8, -33.183007, -70.775529, -33.231446, -70.624322, 114.2, 1.88, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '84 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_73404', 'Honda', 'Civic', 89670, 2021, 31.06, 100.0, 56.57, 91835.84, 9, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (9, '(-33.556526, -70.332261)', '(-33.745759, -70.837551)', 95.47, 3.28, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '26 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (9, -33.556526, -70.332261, -33.745759, -70.837551, 95.47, 3.28, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '26 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_86725', 'Tesla', 'Model 3', 61971, 2016, 25.72, 100.0, 59.88, 62879.68, 10, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (10, '(-33.204714, -70.757776)', '(-33.165952, -70.807177)', 34.78, 0.02, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '90 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (10, -33.204714, -70.757776, -33.165952, -70.807177, 34.78, 0.02, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '90 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_10090', 'Tesla', 'Model 3', 66332, 2020, 25.11, 100.0, 55.84, 68078.62000000001, 11, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (11, '(-33.354514, -71.445011)', '(-33.926522, -71.152734)', 43.07, 1.68, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '69 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (11, -33.354514, -71.445011, -33.926522, -71.152734, 43.07, 1.68, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '69 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_62682', 'Chevrolet', 'Bolt EV', 49923, 2015, 27.15, 95.95, 57.39, 54263.75, 12, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (12, '(-34.104250, -71.220651)', '(-34.078798, -71.166432)', 72.04, 1.89, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '19 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (12, -34.104250, -71.220651, -34.078798, -71.166432, 72.04, 1.89, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '19 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_52858', 'Nissan', 'Leaf', 122805, 2021, 12.44, 100.0, 87.44, 123310.35, 13, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (13, '(-33.437179, -71.062201)', '(-33.755783, -71.248592)', 54.33, 2.43, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '18 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (13, -33.437179, -71.062201, -33.755783, -71.248592, 54.33, 2.43, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '18 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_19840', 'BMW', 'i4', 22517, 2021, 15.81, 100.0, 91.06, 25460.45, 14, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (14, '(-33.879627, -70.376014)', '(-33.422358, -70.769043)', 54.08, 0.46, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '26 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (14, -33.879627, -70.376014, -33.422358, -70.769043, 54.08, 0.46, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '26 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_36668', 'BMW', 'i4', 17144, 2024, 48.18, 100.0, 86.19, 17400.879999999997, 15, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (15, '(-33.994634, -70.625048)', '(-34.003917, -71.044653)', 12.68, 0.6, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '42 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (15, -33.994634, -70.625048, -34.003917, -71.044653, 12.68, 0.6, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '42 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_48467', 'Chevrolet', 'Bolt EV', 147455, 2015, 40.63, 84.63, 84.25, 149872.62, 16, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (16, '(-33.012572, -70.732000)', '(-33.531660, -70.678463)', 0.12, 4.49, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '44 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (16, -33.012572, -70.732000, -33.531660, -70.678463, 0.12, 4.49, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '44 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_19408', 'Tesla', 'Model 3', 52053, 2019, 32.95, 100.0, 77.52, 52866.74, 17, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (17, '(-33.188578, -70.568800)', '(-33.925142, -71.461480)', 91.38, 3.69, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '79 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (17, -33.188578, -70.568800, -33.925142, -71.461480, 91.38, 3.69, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '79 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_32309', 'Ford', 'F-150', 41201, 2021, 32.9, 100.0, 83.38, 43838.69, 18, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (18, '(-33.821456, -71.178711)', '(-33.946821, -70.368508)', 101.5, 2.56, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '18 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (18, -33.821456, -71.178711, -33.946821, -70.368508, 101.5, 2.56, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '18 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_35734', 'Hyundai', 'Ioniq 5', 6065, 2017, 11.14, 100.0, 77.41, 9959.57, 19, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (19, '(-33.148359, -71.122387)', '(-33.413474, -71.025242)', 31.23, 1.47, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '86 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (19, -33.148359, -71.122387, -33.413474, -71.025242, 31.23, 1.47, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '86 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_95705', 'Tesla', 'Model S', 35811, 2024, 27.05, 100.0, 99.65, 38113.72, 20, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (20, '(-33.102543, -70.949378)', '(-33.882144, -71.204047)', 3.81, 1.46, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '40 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (20, -33.102543, -70.949378, -33.882144, -71.204047, 3.81, 1.46, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '40 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_14711', 'Chevrolet', 'Bolt EV', 18391, 2019, 32.41, 66.44, 55.57, 20166.120000000003, 21, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (21, '(-33.526358, -71.184710)', '(-33.498497, -70.422613)', 21.13, 1.56, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '84 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (21, -33.526358, -71.184710, -33.498497, -70.422613, 21.13, 1.56, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '84 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_27315', 'Honda', 'Civic', 119369, 2022, 38.52, 100.0, 83.09, 123036.93, 22, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (22, '(-33.720719, -71.236815)', '(-33.002955, -70.888568)', 51.87, 0.01, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '68 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (22, -33.720719, -71.236815, -33.002955, -70.888568, 51.87, 0.01, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '68 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_73955', 'BMW', 'i4', 108117, 2023, 25.42, 100.0, 79.09, 109108.54, 23, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (23, '(-34.090909, -71.443460)', '(-34.068421, -70.747065)', 62.95, 1.39, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '43 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (23, -34.090909, -71.443460, -34.068421, -70.747065, 62.95, 1.39, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '43 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_21048', 'Hyundai', 'Ioniq 5', 90705, 2020, 45.47, 100.0, 91.52, 92154.44, 24, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (24, '(-33.249505, -70.993408)', '(-34.123767, -71.042057)', 51.0, 1.92, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '72 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (24, -33.249505, -70.993408, -34.123767, -71.042057, 51.0, 1.92, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '72 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_52704', 'Tesla', 'Model 3', 42042, 2021, 23.16, 100.0, 84.35, 42157.0, 25, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (25, '(-33.004654, -70.865063)', '(-33.034706, -70.467064)', 101.29, 1.2, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '90 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (25, -33.004654, -70.865063, -33.034706, -70.467064, 101.29, 1.2, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '90 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_26918', 'Nissan', 'Leaf', 71421, 2016, 25.05, 100.0, 93.17, 72253.3, 26, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (26, '(-34.186223, -70.635134)', '(-33.381948, -70.855636)', 94.87, 1.82, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '50 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (26, -34.186223, -70.635134, -33.381948, -70.855636, 94.87, 1.82, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '50 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_79444', 'Chevrolet', 'Bolt EV', 6271, 2016, 16.95, 91.63, 66.08, 8916.25, 27, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (27, '(-33.879810, -70.730846)', '(-34.066137, -70.978282)', 45.29, 3.07, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '15 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (27, -33.879810, -70.730846, -34.066137, -70.978282, 45.29, 3.07, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '15 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_41461', 'Nissan', 'Leaf', 61309, 2024, 33.3, 100.0, 82.82, 61864.43, 28, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (28, '(-33.655532, -70.355421)', '(-33.148976, -71.183933)', 104.89, 1.98, 'ARRIVED', NOW() - INTERVAL '6 days' - INTERVAL '35 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (28, -33.655532, -70.355421, -33.148976, -71.183933, 104.89, 1.98, 'ARRIVED', NOW() - INTERVAL '6 days' - INTERVAL '35 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_22335', 'Honda', 'Civic', 149375, 2023, 47.82, 100.0, 90.21, 149413.55, 29, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (29, '(-33.599297, -71.285618)', '(-33.104847, -70.455378)', 116.8, 0.71, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '69 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (29, -33.599297, -71.285618, -33.104847, -70.455378, 116.8, 0.71, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '69 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_27655', 'Tesla', 'Model S', 31157, 2021, 48.71, 100.0, 84.27, 34268.26, 30, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (30, '(-33.841866, -70.733261)', '(-33.469236, -71.316593)', 13.75, 2.1, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '58 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (30, -33.841866, -70.733261, -33.469236, -71.316593, 13.75, 2.1, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '58 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_16261', 'Honda', 'Civic', 45280, 2015, 19.85, 100.0, 89.32, 49615.76, 31, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (31, '(-33.284987, -70.852745)', '(-33.265648, -70.863576)', 40.08, 1.82, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '50 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (31, -33.284987, -70.852745, -33.265648, -70.863576, 40.08, 1.82, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '50 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_98216', 'Tesla', 'Model 3', 129195, 2018, 27.28, 100.0, 89.98, 130965.1, 32, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (32, '(-34.199314, -71.111013)', '(-34.176628, -70.385082)', 112.66, 3.75, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '34 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (32, -34.199314, -71.111013, -34.176628, -70.385082, 112.66, 3.75, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '34 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_41827', 'Tesla', 'Model 3', 103097, 2024, 36.65, 100.0, 73.86, 104589.63, 33, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (33, '(-33.145534, -70.502001)', '(-33.830983, -71.430490)', 28.73, 2.47, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '42 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (33, -33.145534, -70.502001, -33.830983, -71.430490, 28.73, 2.47, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '42 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_68216', 'Nissan', 'Leaf', 134664, 2015, 19.21, 100.0, 92.97, 135006.07, 34, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (34, '(-33.146388, -70.363661)', '(-34.097216, -70.916811)', 66.09, 4.92, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '58 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (34, -33.146388, -70.363661, -34.097216, -70.916811, 66.09, 4.92, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '58 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_33776', 'Chevrolet', 'Bolt EV', 26891, 2017, 48.64, 78.45, 82.22, 31844.04, 35, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (35, '(-34.116945, -70.587277)', '(-33.280999, -71.345930)', 61.49, 0.02, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '28 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (35, -34.116945, -70.587277, -33.280999, -71.345930, 61.49, 0.02, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '28 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_57922', 'Hyundai', 'Ioniq 5', 26073, 2016, 22.64, 100.0, 93.11, 27449.57, 36, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (36, '(-33.629661, -70.840236)', '(-33.881932, -70.453080)', 25.65, 3.09, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '26 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (36, -33.629661, -70.840236, -33.881932, -70.453080, 25.65, 3.09, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '26 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_70348', 'BMW', 'i4', 9175, 2021, 38.44, 100.0, 85.15, 12987.09, 37, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (37, '(-33.692234, -71.245842)', '(-33.552845, -70.624083)', 28.46, 2.08, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '63 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (37, -33.692234, -71.245842, -33.552845, -70.624083, 28.46, 2.08, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '63 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_34998', 'Chevrolet', 'Bolt EV', 17051, 2024, 10.87, 93.11, 58.25, 19083.37, 38, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (38, '(-33.958619, -71.125940)', '(-33.005821, -70.720146)', 94.68, 2.43, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '27 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (38, -33.958619, -71.125940, -33.005821, -70.720146, 94.68, 2.43, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '27 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_53526', 'Chevrolet', 'Bolt EV', 84638, 2017, 19.77, 88.34, 92.48, 85743.91, 39, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (39, '(-33.674280, -70.878909)', '(-34.054795, -71.230363)', 32.04, 4.65, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '60 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (39, -33.674280, -70.878909, -34.054795, -71.230363, 32.04, 4.65, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '60 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_21080', 'Hyundai', 'Ioniq 5', 53767, 2020, 20.98, 100.0, 96.4, 55450.14, 40, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (40, '(-33.794297, -70.794030)', '(-33.923862, -71.235739)', 105.87, 1.51, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '59 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (40, -33.794297, -70.794030, -33.923862, -71.235739, 105.87, 1.51, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '59 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_27076', 'Audi', 'e-Tron', 100458, 2021, 29.48, 56.62, 51.14, 105355.38, 41, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (41, '(-34.114808, -70.742676)', '(-33.925270, -70.413496)', 37.09, 1.56, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '48 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (41, -34.114808, -70.742676, -33.925270, -70.413496, 37.09, 1.56, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '48 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_17416', 'Ford', 'F-150', 63827, 2020, 40.7, 100.0, 63.13, 66642.11, 42, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (42, '(-33.168438, -71.414971)', '(-33.914394, -70.697227)', 0.78, 0.95, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '20 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (42, -33.168438, -71.414971, -33.914394, -70.697227, 0.78, 0.95, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '20 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_36085', 'Honda', 'Civic', 23562, 2023, 16.84, 100.0, 93.69, 27337.83, 43, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (43, '(-33.942916, -71.341226)', '(-33.077383, -70.814748)', 58.76, 1.05, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '73 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (43, -33.942916, -71.341226, -33.077383, -70.814748, 58.76, 1.05, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '73 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_91494', 'Nissan', 'Leaf', 81423, 2024, 19.63, 100.0, 89.08, 86326.71, 44, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (44, '(-33.632795, -70.558457)', '(-33.231004, -71.271508)', 0.07, 2.52, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '83 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (44, -33.632795, -70.558457, -33.231004, -71.271508, 0.07, 2.52, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '83 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_79537', 'Chevrolet', 'Bolt EV', 45477, 2020, 30.07, 90.53, 85.23, 48390.18, 45, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (45, '(-34.083683, -70.982739)', '(-33.691706, -70.939570)', 74.58, 0.15, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '30 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (45, -34.083683, -70.982739, -33.691706, -70.939570, 74.58, 0.15, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '30 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_86217', 'Audi', 'e-Tron', 74509, 2021, 20.28, 77.77, 63.79, 74557.08, 46, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (46, '(-33.325109, -70.691963)', '(-33.019002, -71.381899)', 39.81, 0.65, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '63 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (46, -33.325109, -70.691963, -33.019002, -71.381899, 39.81, 0.65, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '63 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_99394', 'Toyota', 'Camry', 121923, 2015, 49.14, 100.0, 81.12, 126747.71, 47, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (47, '(-33.716854, -71.092837)', '(-33.165993, -71.201612)', 26.64, 1.12, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '25 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (47, -33.716854, -71.092837, -33.165993, -71.201612, 26.64, 1.12, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '25 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_80385', 'Honda', 'Civic', 36958, 2023, 15.49, 100.0, 59.41, 41741.25, 48, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (48, '(-33.971749, -70.961664)', '(-33.693742, -71.165746)', 29.48, 0.12, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '85 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (48, -33.971749, -70.961664, -33.693742, -71.165746, 29.48, 0.12, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '85 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_67574', 'Hyundai', 'Ioniq 5', 82483, 2024, 11.25, 100.0, 74.83, 83050.08, 49, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (49, '(-33.900232, -70.392081)', '(-33.668243, -70.466381)', 49.53, 1.23, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '52 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (49, -33.900232, -70.392081, -33.668243, -70.466381, 49.53, 1.23, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '52 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_35883', 'Nissan', 'Leaf', 9755, 2019, 39.17, 100.0, 70.68, 12337.39, 50, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (50, '(-33.539610, -71.439294)', '(-33.000861, -70.496767)', 11.97, 1.41, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '61 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (50, -33.539610, -71.439294, -33.000861, -70.496767, 11.97, 1.41, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '61 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_22121', 'Ford', 'F-150', 34845, 2024, 42.05, 100.0, 87.56, 39766.79, 51, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (51, '(-33.037204, -70.388360)', '(-33.181565, -71.300427)', 113.19, 1.2, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '88 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (51, -33.037204, -70.388360, -33.181565, -71.300427, 113.19, 1.2, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '88 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_36645', 'Tesla', 'Model S', 38904, 2018, 10.44, 100.0, 98.45, 40258.58, 52, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (52, '(-33.617231, -71.243503)', '(-33.718752, -71.429638)', 47.16, 0.35, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '39 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (52, -33.617231, -71.243503, -33.718752, -71.429638, 47.16, 0.35, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '39 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_31364', 'Tesla', 'Model 3', 6006, 2019, 46.57, 100.0, 63.89, 8120.789999999999, 53, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (53, '(-33.745232, -70.317629)', '(-33.881756, -70.559115)', 31.42, 3.62, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '23 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (53, -33.745232, -70.317629, -33.881756, -70.559115, 31.42, 3.62, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '23 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_31151', 'Honda', 'Civic', 115899, 2023, 40.63, 100.0, 50.14, 117663.86, 54, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (54, '(-33.653990, -70.992391)', '(-33.051219, -70.305493)', 54.5, 1.07, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '20 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (54, -33.653990, -70.992391, -33.051219, -70.305493, 54.5, 1.07, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '20 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_44934', 'Nissan', 'Leaf', 72293, 2021, 12.61, 100.0, 55.88, 77113.22, 55, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (55, '(-33.533078, -70.637910)', '(-34.014244, -71.143951)', 108.74, 3.83, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '44 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (55, -33.533078, -70.637910, -34.014244, -71.143951, 108.74, 3.83, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '44 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_87050', 'Audi', 'e-Tron', 71973, 2018, 29.43, 51.83, 61.82, 72669.53, 56, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (56, '(-33.037549, -70.804984)', '(-33.549366, -70.602429)', 26.39, 3.86, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '52 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (56, -33.037549, -70.804984, -33.549366, -70.602429, 26.39, 3.86, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '52 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_54872', 'Audi', 'e-Tron', 69408, 2015, 33.69, 73.66, 99.0, 71161.69, 57, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (57, '(-34.131402, -70.798987)', '(-33.596580, -70.476736)', 55.41, 0.11, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '25 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (57, -34.131402, -70.798987, -33.596580, -70.476736, 55.41, 0.11, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '25 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_98048', 'Honda', 'Civic', 107815, 2019, 40.38, 100.0, 98.16, 109317.09, 58, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (58, '(-34.011081, -70.347065)', '(-34.103866, -71.277010)', 112.34, 3.33, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '44 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (58, -34.011081, -70.347065, -34.103866, -71.277010, 112.34, 3.33, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '44 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_32380', 'Ford', 'F-150', 38122, 2021, 49.27, 100.0, 82.72, 41193.44, 59, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (59, '(-33.485958, -70.689745)', '(-33.917755, -71.356136)', 99.21, 4.77, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '27 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (59, -33.485958, -70.689745, -33.917755, -71.356136, 99.21, 4.77, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '27 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_47816', 'Honda', 'Civic', 149722, 2018, 18.92, 100.0, 73.7, 153541.19, 60, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (60, '(-33.131655, -71.204542)', '(-33.486577, -70.756742)', 107.54, 1.69, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '63 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (60, -33.131655, -71.204542, -33.486577, -70.756742, 107.54, 1.69, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '63 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_46273', 'Tesla', 'Model S', 90800, 2024, 35.9, 100.0, 94.0, 92275.58, 61, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (61, '(-33.696930, -70.799593)', '(-33.572661, -70.378352)', 84.9, 3.13, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '50 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (61, -33.696930, -70.799593, -33.572661, -70.378352, 84.9, 3.13, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '50 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_94609', 'Tesla', 'Model S', 77319, 2018, 49.93, 100.0, 77.81, 79908.54999999999, 62, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (62, '(-33.954889, -70.640570)', '(-33.913577, -71.025057)', 44.47, 3.27, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '73 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (62, -33.954889, -70.640570, -33.913577, -71.025057, 44.47, 3.27, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '73 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_48537', 'BMW', 'i4', 130792, 2024, 39.96, 100.0, 54.73, 131556.2, 63, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (63, '(-33.393972, -71.140004)', '(-33.820587, -70.597763)', 72.52, 3.73, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '61 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (63, -33.393972, -71.140004, -33.820587, -70.597763, 72.52, 3.73, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '61 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_22755', 'Hyundai', 'Ioniq 5', 113431, 2021, 27.65, 100.0, 83.57, 115870.69, 64, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (64, '(-34.112948, -70.950057)', '(-33.001855, -70.304684)', 54.94, 1.88, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '35 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (64, -34.112948, -70.950057, -33.001855, -70.304684, 54.94, 1.88, 'IN_PROGRESS', NOW() - INTERVAL '0 days' - INTERVAL '35 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_38829', 'Hyundai', 'Ioniq 5', 114421, 2023, 19.82, 100.0, 98.61, 118364.48, 65, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (65, '(-34.112087, -71.244215)', '(-33.881760, -70.380089)', 44.12, 1.28, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '62 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (65, -34.112087, -71.244215, -33.881760, -70.380089, 44.12, 1.28, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '62 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_62883', 'Audi', 'e-Tron', 114152, 2019, 33.89, 97.87, 68.35, 115615.01, 66, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (66, '(-33.142963, -70.444876)', '(-33.756567, -71.310704)', 69.81, 1.28, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '60 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (66, -33.142963, -70.444876, -33.756567, -71.310704, 69.81, 1.28, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '60 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_12572', 'Hyundai', 'Ioniq 5', 130987, 2018, 39.13, 100.0, 92.39, 134809.16, 67, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (67, '(-33.199506, -70.655752)', '(-33.465987, -70.315320)', 92.6, 3.93, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '41 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (67, -33.199506, -70.655752, -33.465987, -70.315320, 92.6, 3.93, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '41 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_70707', 'BMW', 'i4', 45745, 2017, 30.35, 100.0, 89.53, 47946.9, 68, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (68, '(-33.415228, -71.490612)', '(-33.219475, -71.140745)', 10.42, 1.43, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '49 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (68, -33.415228, -71.490612, -33.219475, -71.140745, 10.42, 1.43, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '49 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_47947', 'Tesla', 'Model S', 10752, 2024, 46.57, 100.0, 86.38, 14778.38, 69, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (69, '(-33.403934, -70.373284)', '(-34.038851, -71.361486)', 31.15, 4.52, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '24 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (69, -33.403934, -70.373284, -34.038851, -71.361486, 31.15, 4.52, 'IN_PROGRESS', NOW() - INTERVAL '5 days' - INTERVAL '24 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_16680', 'Tesla', 'Model S', 79597, 2018, 28.3, 100.0, 75.47, 80000.87999999999, 70, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (70, '(-34.071557, -70.836132)', '(-33.873182, -70.774204)', 25.41, 0.66, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '36 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (70, -34.071557, -70.836132, -33.873182, -70.774204, 25.41, 0.66, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '36 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_47886', 'Hyundai', 'Ioniq 5', 89678, 2024, 29.77, 100.0, 61.96, 92311.55, 71, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (71, '(-33.338865, -71.255683)', '(-33.438914, -71.183219)', 42.61, 0.1, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '83 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (71, -33.338865, -71.255683, -33.438914, -71.183219, 42.61, 0.1, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '83 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_94627', 'Ford', 'F-150', 114907, 2015, 35.82, 100.0, 72.91, 115939.45, 72, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (72, '(-33.613762, -70.413596)', '(-33.184676, -71.389242)', 116.1, 0.04, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '46 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (72, -33.613762, -70.413596, -33.184676, -71.389242, 116.1, 0.04, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '46 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_11982', 'BMW', 'i4', 101309, 2017, 46.33, 100.0, 92.66, 104039.66, 73, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (73, '(-33.691709, -71.167984)', '(-34.195745, -70.574657)', 43.34, 1.01, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '35 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (73, -33.691709, -71.167984, -34.195745, -70.574657, 43.34, 1.01, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '35 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_70601', 'Ford', 'F-150', 111868, 2020, 16.25, 100.0, 85.78, 113772.87, 74, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (74, '(-33.435464, -71.185654)', '(-33.310523, -70.837983)', 14.05, 4.19, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '74 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (74, -33.435464, -71.185654, -33.310523, -70.837983, 14.05, 4.19, 'CANCELED', NOW() - INTERVAL '3 days' - INTERVAL '74 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_93538', 'Hyundai', 'Ioniq 5', 101337, 2016, 40.4, 100.0, 82.26, 104451.17, 75, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (75, '(-33.686776, -71.488396)', '(-34.109707, -70.440272)', 45.9, 4.76, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '63 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (75, -33.686776, -71.488396, -34.109707, -70.440272, 45.9, 4.76, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '63 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_41026', 'Hyundai', 'Ioniq 5', 115698, 2018, 46.53, 100.0, 65.19, 118407.05, 76, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (76, '(-33.115286, -70.845292)', '(-33.198486, -70.800989)', 28.65, 0.66, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '49 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (76, -33.115286, -70.845292, -33.198486, -70.800989, 28.65, 0.66, 'CANCELED', NOW() - INTERVAL '5 days' - INTERVAL '49 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_81192', 'Tesla', 'Model 3', 37201, 2019, 17.09, 100.0, 79.7, 41598.28999999999, 77, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (77, '(-34.022287, -71.347065)', '(-33.830090, -70.421222)', 92.62, 1.83, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '86 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (77, -34.022287, -71.347065, -33.830090, -70.421222, 92.62, 1.83, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '86 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_26949', 'Honda', 'Civic', 29747, 2015, 26.42, 100.0, 56.67, 30682.73, 78, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (78, '(-33.244653, -70.467157)', '(-33.121290, -71.247908)', 23.35, 3.09, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '43 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (78, -33.244653, -70.467157, -33.121290, -71.247908, 23.35, 3.09, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '43 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_67307', 'Tesla', 'Model 3', 91236, 2021, 46.3, 100.0, 53.38, 96219.58, 79, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (79, '(-33.900564, -71.376648)', '(-33.263861, -70.439038)', 73.21, 1.71, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '56 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (79, -33.900564, -71.376648, -33.263861, -70.439038, 73.21, 1.71, 'IN_PROGRESS', NOW() - INTERVAL '1 days' - INTERVAL '56 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_69140', 'Nissan', 'Leaf', 60036, 2019, 16.78, 100.0, 51.12, 63822.54, 80, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (80, '(-33.712347, -70.755206)', '(-34.014536, -70.384143)', 91.27, 0.6, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '22 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (80, -33.712347, -70.755206, -34.014536, -70.384143, 91.27, 0.6, 'CANCELED', NOW() - INTERVAL '2 days' - INTERVAL '22 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_37186', 'Tesla', 'Model 3', 131391, 2016, 16.61, 100.0, 60.78, 136222.75, 81, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (81, '(-33.162473, -70.328553)', '(-33.227074, -70.442301)', 33.44, 2.53, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '44 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (81, -33.162473, -70.328553, -33.227074, -70.442301, 33.44, 2.53, 'IN_PROGRESS', NOW() - INTERVAL '3 days' - INTERVAL '44 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_88713', 'Honda', 'Civic', 128600, 2021, 46.99, 100.0, 78.04, 130495.75, 82, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (82, '(-34.170256, -70.616123)', '(-33.801377, -70.383021)', 23.97, 1.01, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '19 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (82, -34.170256, -70.616123, -33.801377, -70.383021, 23.97, 1.01, 'ARRIVED', NOW() - INTERVAL '4 days' - INTERVAL '19 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_10212', 'Hyundai', 'Ioniq 5', 79144, 2019, 23.07, 100.0, 52.0, 80111.25, 83, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (83, '(-33.237318, -70.463123)', '(-33.227101, -71.179833)', 31.59, 3.72, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '55 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (83, -33.237318, -70.463123, -33.227101, -71.179833, 31.59, 3.72, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '55 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_48587', 'Audi', 'e-Tron', 147282, 2015, 31.13, 59.22, 79.13, 149478.55, 84, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (84, '(-33.255151, -71.370285)', '(-33.153400, -70.469688)', 73.22, 3.54, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '66 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (84, -33.255151, -71.370285, -33.153400, -70.469688, 73.22, 3.54, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '66 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_60835', 'Tesla', 'Model S', 61214, 2021, 34.09, 100.0, 87.23, 64246.58, 85, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (85, '(-33.933080, -70.520096)', '(-33.647636, -71.133771)', 41.17, 2.9, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '49 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (85, -33.933080, -70.520096, -33.647636, -71.133771, 41.17, 2.9, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '49 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_28248', 'Ford', 'F-150', 107974, 2019, 45.81, 100.0, 82.2, 109133.35, 86, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (86, '(-33.245585, -71.226885)', '(-34.171603, -71.268244)', 40.93, 0.51, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '23 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (86, -33.245585, -71.226885, -34.171603, -71.268244, 40.93, 0.51, 'CANCELED', NOW() - INTERVAL '1 days' - INTERVAL '23 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_53482', 'Hyundai', 'Ioniq 5', 98688, 2022, 45.75, 100.0, 55.97, 99533.66, 87, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (87, '(-33.806086, -70.462776)', '(-33.039733, -71.165050)', 83.59, 0.25, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '42 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (87, -33.806086, -70.462776, -33.039733, -71.165050, 83.59, 0.25, 'IN_PROGRESS', NOW() - INTERVAL '2 days' - INTERVAL '42 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_83303', 'Tesla', 'Model S', 23913, 2022, 26.8, 100.0, 93.5, 27179.4, 88, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (88, '(-33.430222, -71.020386)', '(-33.022620, -70.856541)', 82.23, 4.18, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '87 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (88, -33.430222, -71.020386, -33.022620, -70.856541, 82.23, 4.18, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '87 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_26511', 'Tesla', 'Model 3', 52406, 2018, 34.16, 100.0, 52.51, 54232.52, 89, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (89, '(-33.072915, -71.361590)', '(-33.035519, -71.285719)', 98.36, 3.24, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '55 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (89, -33.072915, -71.361590, -33.035519, -71.285719, 98.36, 3.24, 'IN_PROGRESS', NOW() - INTERVAL '4 days' - INTERVAL '55 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_37774', 'BMW', 'i4', 120258, 2016, 16.97, 100.0, 88.33, 123783.97, 90, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (90, '(-33.044959, -71.181440)', '(-34.069917, -70.978523)', 39.82, 3.98, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '42 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (90, -33.044959, -71.181440, -34.069917, -70.978523, 39.82, 3.98, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '42 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_16181', 'Ford', 'F-150', 85952, 2022, 43.52, 100.0, 81.1, 87937.13, 91, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (91, '(-33.325746, -71.123587)', '(-33.472549, -70.886292)', 12.18, 1.15, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '78 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (91, -33.325746, -71.123587, -33.472549, -70.886292, 12.18, 1.15, 'IN_PROGRESS', NOW() - INTERVAL '6 days' - INTERVAL '78 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_55488', 'Tesla', 'Model 3', 75990, 2015, 48.81, 100.0, 66.32, 78428.68, 92, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (92, '(-33.737765, -70.808094)', '(-33.894333, -70.649458)', 118.47, 0.31, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '65 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (92, -33.737765, -70.808094, -33.894333, -70.649458, 118.47, 0.31, 'ARRIVED', NOW() - INTERVAL '0 days' - INTERVAL '65 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_51363', 'Hyundai', 'Ioniq 5', 104355, 2024, 26.88, 100.0, 84.73, 108135.94, 93, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (93, '(-34.197970, -70.389310)', '(-33.553858, -70.636684)', 69.76, 2.28, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '73 minutes', NOW() - INTERVAL '1 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (93, -34.197970, -70.389310, -33.553858, -70.636684, 69.76, 2.28, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '73 minutes', NOW() - INTERVAL '1 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_27203', 'Toyota', 'Camry', 26937, 2019, 39.47, 100.0, 63.86, 30755.03, 94, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (94, '(-33.309660, -70.695246)', '(-33.762934, -71.416031)', 17.81, 4.34, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '33 minutes', NOW() - INTERVAL '2 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (94, -33.309660, -70.695246, -33.762934, -71.416031, 17.81, 4.34, 'ARRIVED', NOW() - INTERVAL '2 days' - INTERVAL '33 minutes', NOW() - INTERVAL '2 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_72891', 'Hyundai', 'Ioniq 5', 31756, 2023, 21.12, 100.0, 62.41, 32797.590000000004, 95, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (95, '(-33.402915, -71.103760)', '(-33.823301, -70.482382)', 25.9, 3.7, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '48 minutes', NOW() - INTERVAL '3 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (95, -33.402915, -71.103760, -33.823301, -70.482382, 25.9, 3.7, 'ARRIVED', NOW() - INTERVAL '3 days' - INTERVAL '48 minutes', NOW() - INTERVAL '3 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_92158', 'BMW', 'i4', 96463, 2016, 10.59, 100.0, 62.95, 99678.09, 96, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (96, '(-33.336295, -71.139613)', '(-33.828858, -71.009929)', 40.33, 1.65, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '32 minutes', NOW() - INTERVAL '4 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (96, -33.336295, -71.139613, -33.828858, -71.009929, 40.33, 1.65, 'CANCELED', NOW() - INTERVAL '4 days' - INTERVAL '32 minutes', NOW() - INTERVAL '4 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_88678', 'Hyundai', 'Ioniq 5', 89032, 2018, 27.87, 100.0, 55.73, 89530.81, 97, 'IN_MAINTENANCE');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (97, '(-33.717120, -71.145214)', '(-34.047255, -70.995464)', 33.16, 3.46, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '46 minutes', NOW() - INTERVAL '5 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (97, -33.717120, -71.145214, -34.047255, -70.995464, 33.16, 3.46, 'ARRIVED', NOW() - INTERVAL '5 days' - INTERVAL '46 minutes', NOW() - INTERVAL '5 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_28318', 'Tesla', 'Model 3', 82685, 2020, 32.9, 100.0, 95.34, 83093.5, 98, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (98, '(-33.071564, -70.687218)', '(-33.116633, -70.761382)', 25.99, 1.48, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '86 minutes', NOW() - INTERVAL '6 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (98, -33.071564, -70.687218, -33.116633, -70.761382, 25.99, 1.48, 'CANCELED', NOW() - INTERVAL '6 days' - INTERVAL '86 minutes', NOW() - INTERVAL '6 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_15769', 'Audi', 'e-Tron', 78553, 2023, 34.74, 90.83, 76.79, 79562.52, 99, 'OPERATIONAL');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (99, '(-33.838860, -70.842475)', '(-34.199513, -71.155704)', 99.31, 3.46, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '83 minutes', NOW() - INTERVAL '0 days');
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (99, -33.838860, -70.842475, -34.199513, -71.155704, 99.31, 3.46, 'CANCELED', NOW() - INTERVAL '0 days' - INTERVAL '83 minutes', NOW() - INTERVAL '0 days');
 INSERT INTO vehicle (patente, marca, modelo, km_recorrido, year, fuel_efficiency, battery_health, engine_health, odometer_reading, driver_id, status) VALUES ('veh_94667', 'Nissan', 'Leaf', 15211, 2023, 38.6, 100.0, 79.23, 16663.75, 100, 'PENDING_REVIEW');
-INSERT INTO travel_log (vehicle_id, start_position, end_position, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (100, '(-33.684134, -70.804018)', '(-33.414353, -70.942014)', 7.62, 0.46, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '48 minutes', NOW() - INTERVAL '1 days');
\ No newline at end of file
+INSERT INTO travel_log (vehicle_id, start_latitude, start_longitude, end_latitude, end_longitude, avg_speed, avg_acceleration, state, created_at, arrival_time) VALUES (100, -33.684134, -70.804018, -33.414353, -70.942014, 7.62, 0.46, 'ARRIVED', NOW() - INTERVAL '1 days' - INTERVAL '48 minutes', NOW() - INTERVAL '1 days');
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.innova.flota;
+
+import com.innova.flota.services.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Envio por tandas contra un SMTP local minimo: se cuentan conexiones y mensajes.
+ */
+class EmailServiceTest {
+
+    private FakeSmtpServer smtp;
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+        mailSender.setDefaultEncoding("UTF-8");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtp.close();
+    }
+
+    @Test
+    void batchReusesOneConnection() throws Exception {
+        EmailService emailService = new EmailService(mailSender, 100, 600_000);
+        try (EmailService.SmtpBatch batch = emailService.openBatch()) {
+            for (int i = 0; i < 5; i++) {
+                batch.send(emailService.buildQREmail("driver" + i + "@flota.cl", new byte[] {1, 2, 3}, "QR", "hola"));
+            }
+        }
+
+        smtp.awaitMessages(5);
+        assertEquals(1, smtp.connections.get());
+        assertEquals(5, smtp.messages.get());
+    }
+
+    @Test
+    void batchReconnectsAfterMessagesPerConnection() throws Exception {
+        EmailService emailService = new EmailService(mailSender, 2, 600_000);
+        try (EmailService.SmtpBatch batch = emailService.openBatch()) {
+            for (int i = 0; i < 5; i++) {
+                batch.send(emailService.buildQREmail("driver" + i + "@flota.cl", new byte[] {1, 2, 3}, "QR", "hola"));
+            }
+        }
+
+        smtp.awaitMessages(5);
+        assertEquals(3, smtp.connections.get());
+        assertEquals(5, smtp.messages.get());
+    }
+
+    /** Lo justo del protocolo SMTP para que Jakarta Mail entregue mensajes. */
+    private static final class FakeSmtpServer implements AutoCloseable {
+
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger messages = new AtomicInteger();
+        private final ServerSocket server;
+
+        FakeSmtpServer() throws IOException {
+            server = new ServerSocket(0);
+            Thread acceptor = new Thread(this::acceptLoop, "fake-smtp");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        void awaitMessages(int expected) throws InterruptedException {
+            for (int i = 0; i < 100 && messages.get() < expected; i++) {
+                Thread.sleep(20);
+            }
+        }
+
+        private void acceptLoop() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> serve(socket), "fake-smtp-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true)) {
+                reply(out, "220 localhost");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() < 4 ? line : line.substring(0, 4).toUpperCase();
+                    switch (command) {
+                        case "DATA" -> {
+                            reply(out, "354 go ahead");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // cuerpo del mensaje
+                            }
+                            messages.incrementAndGet();
+                            reply(out, "250 queued");
+                        }
+                        case "QUIT" -> {
+                            reply(out, "221 bye");
+                            return;
+                        }
+                        default -> reply(out, "250 ok");
+                    }
+                }
+            } catch (IOException ignored) {
+                // el cliente cerro la conexion
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
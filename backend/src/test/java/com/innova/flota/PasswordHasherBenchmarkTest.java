@@ -0,0 +1,51 @@
+package com.innova.flota;
+
+import com.innova.flota.services.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput de login (BCrypt costo 10, como los hashes del seed). Mide tiempo de
+ * reloj, asi que no corre con mvn test: se corre con mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class PasswordHasherBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasherBenchmarkTest.class);
+
+    // BCrypt(10) anda por los 10-20 hashes/s por nucleo; bajo esto algo se serializo
+    private static final double MIN_LOGINS_PER_CORE = 2.0;
+
+    @Test
+    void loginsPerSecondPerCore() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        PasswordHasher hasher = new PasswordHasher(new SimpleMeterRegistry(), 10, cores, 1024, 60_000);
+        String hash = hasher.encode("password123").get();
+        hasher.matches("password123", hash).get();
+
+        int logins = Math.max(40, cores * 8);
+        long start = System.nanoTime();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < logins; i++) {
+            results.add(hasher.matches("password123", hash));
+        }
+        for (CompletableFuture<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        double perCore = logins / seconds / cores;
+        logger.info("BCrypt(10): {} logins en {} s, {} logins/s por nucleo ({} nucleos)",
+                logins, String.format("%.2f", seconds), String.format("%.1f", perCore), cores);
+        assertTrue(perCore >= MIN_LOGINS_PER_CORE,
+                String.format("%.1f logins/s por nucleo, se esperaban al menos %.1f", perCore, MIN_LOGINS_PER_CORE));
+    }
+}
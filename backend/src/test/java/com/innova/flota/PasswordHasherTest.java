@@ -0,0 +1,65 @@
+package com.innova.flota;
+
+import com.innova.flota.services.PasswordHasher;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rechazo inmediato cuando el pool esta lleno y que un hash vencido en la cola
+ * no corra. El throughput se mide aparte en {@link PasswordHasherBenchmarkTest}.
+ */
+class PasswordHasherTest {
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() {
+        PasswordHasher hasher = new PasswordHasher(new SimpleMeterRegistry(), 10, 1, 2, 60_000);
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(hasher.matches("password123", null));
+        }
+
+        // 1 hashing + 2 en cola; el resto ya viene fallado sin esperar
+        long rejected = results.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+        assertEquals(7, rejected);
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> results.get(9).get());
+        assertInstanceOf(PasswordHasher.BusyException.class, error.getCause());
+    }
+
+    @Test
+    void queuedHashIsDroppedAfterTimeout() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        // costo 12 para que el primer hash ocupe el unico hilo mas que el timeout
+        PasswordHasher hasher = new PasswordHasher(registry, 12, 1, 4, 20);
+
+        CompletableFuture<Boolean> running = hasher.matches("password123", null);
+        CompletableFuture<Boolean> waiting = hasher.matches("password123", null);
+        ExecutionException error = assertThrows(ExecutionException.class, waiting::get);
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertThrows(ExecutionException.class, running::get);
+
+        // el primero termina igual (BCrypt no se puede cortar); el segundo nunca se hashea
+        Timer hashes = registry.get("auth.hash").timer();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (hashes.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        assertEquals(1, hashes.count());
+        assertEquals(0.0, registry.get("auth.hash.queue").gauge().value());
+    }
+}
@@ -0,0 +1,73 @@
+package com.innova.flota;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.Result;
+import com.google.zxing.ResultMetadataType;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.innova.flota.services.QrPngWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * El PNG escrito a mano tiene que ser un PNG valido para ImageIO y el QR tiene
+ * que leerse de vuelta con zxing.
+ */
+class QrPngWriterTest {
+
+    @Test
+    void rendersDecodableQr() throws Exception {
+        String token = "FL1.2n9c.0a1b2c3d4e";
+        byte[] png = QrPngWriter.render(token, 250);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image, "ImageIO no reconocio el PNG");
+        assertTrue(image.getWidth() >= 200 && image.getWidth() == image.getHeight());
+
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        Result result = new MultiFormatReader().decode(bitmap);
+        assertEquals(token, result.getText());
+    }
+
+    @Test
+    void rendersLongPayloadWithOddWidth() throws Exception {
+        // ancho que no es multiplo de 8: prueba el relleno de bits al final de cada fila
+        String text = "x".repeat(150);
+        byte[] png = QrPngWriter.render(text, 101);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image);
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        assertEquals(text, new MultiFormatReader().decode(bitmap).getText());
+    }
+
+    @Test
+    void encodesAccentsAsUtf8() throws Exception {
+        // los bytes dentro del QR tienen que ser UTF-8, no ISO-8859-1 (el default de zxing)
+        String text = "Revisión técnica: camión Ñuble";
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(QrPngWriter.render(text, 300)));
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image)));
+        Result result = new MultiFormatReader().decode(bitmap);
+        assertEquals(text, result.getText());
+
+        @SuppressWarnings("unchecked")
+        List<byte[]> segments = (List<byte[]>) result.getResultMetadata().get(ResultMetadataType.BYTE_SEGMENTS);
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        for (byte[] segment : segments) {
+            raw.write(segment);
+        }
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), raw.toByteArray());
+    }
+}
@@ -0,0 +1,122 @@
+package com.innova.flota;
+
+import com.innova.flota.config.SecurityConfig;
+import com.innova.flota.controllers.QREmailController;
+import com.innova.flota.controllers.TrackingStreamController;
+import com.innova.flota.repositories.VehicleRepository;
+import com.innova.flota.services.EmailCampaignService;
+import com.innova.flota.services.EmailOutboxService;
+import com.innova.flota.services.JwtService;
+import com.innova.flota.services.QrGenerator;
+import com.innova.flota.services.TelemetryPipeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reglas de SecurityConfig sobre los endpoints REST: lo que toca a toda la flota
+ * (campañas de correo) solo con un token ADMIN, y la ingesta de telemetria solo con
+ * un token DRIVER (limitado a sus vehiculos) o ADMIN.
+ */
+@WebMvcTest(controllers = { QREmailController.class, TrackingStreamController.class })
+@Import({ SecurityConfig.class, JwtService.class })
+class SecurityConfigTest {
+
+    private static final String CAMPAIGN = "{\"action\":\"status\",\"status\":null,\"marca\":null,\"modelo\":null}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockBean
+    private EmailOutboxService emailOutboxService;
+
+    @MockBean
+    private EmailCampaignService emailCampaignService;
+
+    @MockBean
+    private QrGenerator qrGenerator;
+
+    @MockBean
+    private TelemetryPipeline telemetryPipeline;
+
+    @MockBean
+    private VehicleRepository vehicleRepository;
+
+    @Test
+    void anonymousCannotStartCampaign() throws Exception {
+        int status = mockMvc.perform(campaign()).andReturn().getResponse().getStatus();
+        assertTrue(status == 401 || status == 403, "status " + status);
+        mockMvc.perform(get("/api/qr/campaign/abc")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void onlyAdminCanStartCampaign() throws Exception {
+        when(emailCampaignService.enqueueQrCampaign(any(), any(), any(), any(), any())).thenReturn("campaign-1");
+
+        mockMvc.perform(campaign().header(HttpHeaders.AUTHORIZATION, bearer("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(campaign().header(HttpHeaders.AUTHORIZATION, bearer("ADMIN")))
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void trackingRequiresDriverOrAdmin() throws Exception {
+        int status = mockMvc.perform(tracking("{\"vehicleId\":1,\"lat\":-33.4,\"lng\":-70.6}"))
+                .andReturn().getResponse().getStatus();
+        assertTrue(status == 401 || status == 403, "status " + status);
+        mockMvc.perform(tracking("{\"vehicleId\":1,\"lat\":-33.4,\"lng\":-70.6}")
+                        .header(HttpHeaders.AUTHORIZATION, bearer("USER")))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(telemetryPipeline);
+    }
+
+    @Test
+    void driverOnlyStreamsOwnVehicles() throws Exception {
+        when(vehicleRepository.findIdsByDriverEmail("driver@flota.cl")).thenReturn(List.of(1L));
+        when(telemetryPipeline.submit(any(), anyLong())).thenReturn(true);
+
+        mockMvc.perform(tracking("{\"vehicleId\":1,\"lat\":-33.4,\"lng\":-70.6}\n"
+                        + "{\"vehicleId\":2,\"lat\":-33.4,\"lng\":-70.6}")
+                        .header(HttpHeaders.AUTHORIZATION, bearer("DRIVER")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.forbidden").value(1));
+        verify(telemetryPipeline, times(1)).submit(any(), anyLong());
+    }
+
+    private static MockHttpServletRequestBuilder tracking(String ndjson) {
+        return post("/api/tracking/stream").contentType("application/x-ndjson").content(ndjson);
+    }
+
+    private static MockHttpServletRequestBuilder campaign() {
+        return post("/api/qr/campaign").contentType(MediaType.APPLICATION_JSON).content(CAMPAIGN);
+    }
+
+    private String bearer(String role) {
+        return "Bearer " + jwtService.generateToken(Map.of("role", role), role.toLowerCase() + "@flota.cl");
+    }
+}
@@ -68,8 +68,6 @@ export function VehicleDetailDialog({ vehicle, open, onOpenChange }: VehicleDeta
         }
 
         try {
-            const vehicleData = `Patente: ${vehicle?.patente}\nMarca: ${vehicle?.marca}\nModelo: ${vehicle?.modelo}\nKM: ${vehicle?.kmRecorrido}`;
-            
             const response = await fetch(import.meta.env.VITE_BACKEND_URL + '/api/qr/send-email' || 'http://localhost:8080/api/qr/send-email', {
                 method: 'POST',
                 headers: {
@@ -78,7 +76,7 @@ export function VehicleDetailDialog({ vehicle, open, onOpenChange }: VehicleDeta
                 body: JSON.stringify({
                     email: email,
                     action: action,
-                    vehicleData: vehicleData,
+                    vehicleId: vehicle.id,
                 }),
             });
 
@@ -57,6 +57,16 @@ class PredictionResponse(BaseModel):
     maintenance_probability: Optional[float] = None
     input_data: VehicleData
 
+class BatchPredictionRequest(BaseModel):
+    vehicles: List[VehicleData]
+
+class BatchPrediction(BaseModel):
+    needs_maintenance: bool
+    maintenance_probability: Optional[float] = None
+
+class BatchPredictionResponse(BaseModel):
+    predictions: List[BatchPrediction]
+
 class Location(BaseModel):
     lat: float
     long: float
@@ -116,6 +126,30 @@ def predict_maintenance(data: VehicleData):
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
 
+@app.post("/predict/batch", response_model=BatchPredictionResponse)
+def predict_maintenance_batch(request: BatchPredictionRequest):
+    """Same model as /predict, but N vehicles per request (one DataFrame, one predict call)."""
+    global model
+    if not model:
+        raise HTTPException(status_code=503, detail="Model not loaded")
+    if not request.vehicles:
+        return BatchPredictionResponse(predictions=[])
+
+    try:
+        df = pd.DataFrame([v.dict() for v in request.vehicles])
+        predictions = model.predict(df)
+
+        probs = [None] * len(df)
+        if hasattr(model, "predict_proba"):
+            probs = [float(p) for p in model.predict_proba(df)[:, 1]]
+
+        return BatchPredictionResponse(predictions=[
+            BatchPrediction(needs_maintenance=bool(int(pred)), maintenance_probability=prob)
+            for pred, prob in zip(predictions, probs)
+        ])
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=str(e))
+
 @app.post("/optimize-routes", response_model=OptimizeRoutesResponse)
 def get_optimized_routes(request: OptimizeRoutesRequest):
     try:
@@ -0,0 +1,108 @@
+"""
+Export the trained maintenance RandomForest to a portable JSON file that the
+backend evaluates in-process (see RandomForestModel.java), plus a set of parity
+cases scored by scikit-learn so the Java side can be checked against it.
+
+Usage (from vehicle-telemetry-scikit/):
+    python -m src.export_model \
+        --model maintenance_model.pkl \
+        --out ../backend/src/main/resources/ml/maintenance_model.json \
+        --cases ../backend/src/test/resources/ml/parity_cases.json
+
+JSON layout (format "sklearn-random-forest", version 1):
+    features: input order, same as VehicleData / training
+    classes:  model.classes_
+    trees:    one object per estimator with parallel node arrays
+              left/right (-1 on leaves), feature, threshold,
+              value0/value1 (leaf class weights, 0 on internal nodes)
+
+Scoring rules mirrored by the Java engine:
+    - inputs are cast to float32 before comparing (sklearn does that in predict)
+    - go left when x[feature] <= threshold
+    - per-tree proba = leaf value / sum(leaf value); forest proba = mean over trees
+"""
+import argparse
+import json
+import random
+
+import joblib
+import numpy as np
+import pandas as pd
+
+FEATURES = ['mileage', 'vehicle_age', 'fuel_efficiency', 'battery_health',
+            'engine_health', 'avg_speed', 'avg_accel', 'odometer_reading']
+
+
+def export_forest(model):
+    trees = []
+    for estimator in model.estimators_:
+        tree = estimator.tree_
+        leaf = tree.children_left == -1
+        values = tree.value[:, 0, :]
+        trees.append({
+            'left': tree.children_left.tolist(),
+            'right': tree.children_right.tolist(),
+            'feature': np.where(leaf, -1, tree.feature).tolist(),
+            'threshold': np.where(leaf, 0.0, tree.threshold).tolist(),
+            'value0': np.where(leaf, values[:, 0], 0.0).tolist(),
+            'value1': np.where(leaf, values[:, 1], 0.0).tolist(),
+        })
+    return {
+        'format': 'sklearn-random-forest',
+        'version': 1,
+        'features': FEATURES,
+        'classes': [int(c) for c in model.classes_],
+        'trees': trees,
+    }
+
+
+def parity_cases(model, forest, n_random=200, seed=7):
+    """Random rows inside the split ranges plus rows sitting exactly on thresholds."""
+    rng = random.Random(seed)
+    ranges = []
+    for f in range(len(FEATURES)):
+        cuts = [t['threshold'][i] for t in forest['trees'] for i in range(len(t['feature'])) if t['feature'][i] == f]
+        lo, hi = (min(cuts), max(cuts)) if cuts else (0.0, 1.0)
+        pad = (hi - lo) * 0.1 or 1.0
+        ranges.append((lo - pad, hi + pad))
+
+    rows = [[rng.uniform(lo, hi) for lo, hi in ranges] for _ in range(n_random)]
+    for t in forest['trees'][:10]:
+        for i, f in enumerate(t['feature']):
+            if f >= 0:
+                row = [rng.uniform(lo, hi) for lo, hi in ranges]
+                row[f] = t['threshold'][i]
+                rows.append(row)
+    rows = [[float(int(v)) if FEATURES[j] == 'vehicle_age' else v for j, v in enumerate(r)] for r in rows]
+
+    df = pd.DataFrame(rows, columns=FEATURES)
+    proba = model.predict_proba(df)[:, 1]
+    labels = model.predict(df)
+    return {
+        'source': 'scikit-learn',
+        'cases': [{'features': row, 'probability': float(p), 'needs_maintenance': bool(int(y))}
+                  for row, p, y in zip(rows, proba, labels)],
+    }
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument('--model', default='maintenance_model.pkl')
+    parser.add_argument('--out', required=True)
+    parser.add_argument('--cases')
+    args = parser.parse_args()
+
+    model = joblib.load(args.model)
+    forest = export_forest(model)
+    with open(args.out, 'w') as fh:
+        json.dump(forest, fh, separators=(',', ':'))
+    print(f"Exported {len(forest['trees'])} trees to {args.out}")
+
+    if args.cases:
+        with open(args.cases, 'w') as fh:
+            json.dump(parity_cases(model, forest), fh, indent=1)
+        print(f"Wrote parity cases to {args.cases}")
+
+
+if __name__ == '__main__':
+    main()